@@ -0,0 +1,65 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.BinaryFormat;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+/**
+ * Writes accounts in {@link BinaryFormat}. Only the unversioned media type is advertised, so a
+ * client sending {@code Accept: application/x-banking-binary} keeps getting version 1 records;
+ * the record version follows the {@code v} parameter of the negotiated content type.
+ */
+public class AccountBinaryMessageConverter extends AbstractHttpMessageConverter<AccountDTO> {
+  public AccountBinaryMessageConverter() {
+    super(BinaryFormat.MEDIA_TYPE);
+  }
+
+  @Override
+  protected boolean supports(@NonNull Class<?> clazz) {
+    return AccountDTO.class.equals(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected boolean canWrite(MediaType mediaType) {
+    return super.canWrite(mediaType)
+        && (mediaType == null || BinaryFormat.accountVersion(mediaType) != 0);
+  }
+
+  @Override
+  @NonNull
+  protected AccountDTO readInternal(
+      @NonNull Class<? extends AccountDTO> clazz, @NonNull HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Accounts are write-only in binary format", inputMessage);
+  }
+
+  @Override
+  protected Long getContentLength(@NonNull AccountDTO account, MediaType contentType) {
+    return (long) BinaryFormat.accountRecordBytes(version(contentType));
+  }
+
+  @Override
+  protected void writeInternal(
+      @NonNull AccountDTO account, @NonNull HttpOutputMessage outputMessage) throws IOException {
+    outputMessage
+        .getBody()
+        .write(
+            BinaryFormat.encodeAccount(
+                account, version(outputMessage.getHeaders().getContentType())));
+  }
+
+  private static int version(MediaType contentType) {
+    return contentType == null ? 1 : BinaryFormat.accountVersion(contentType);
+  }
+}
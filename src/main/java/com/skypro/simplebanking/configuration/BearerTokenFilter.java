@@ -0,0 +1,66 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.service.TokenService;
+import java.io.IOException;
+import java.util.Optional;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class BearerTokenFilter extends OncePerRequestFilter {
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final TokenService tokenService;
+
+  public BearerTokenFilter(TokenService tokenService) {
+    this.tokenService = tokenService;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    Optional<UsernamePasswordAuthenticationToken> authenticatedUserDetails =
+        authenticateByBearerToken(request);
+    authenticatedUserDetails.ifPresent(
+        details -> {
+          SecurityContext context = SecurityContextHolder.createEmptyContext();
+          context.setAuthentication(details);
+          SecurityContextHolder.setContext(context);
+        });
+    filterChain.doFilter(request, response);
+  }
+
+  /** The token of an {@code Authorization: Bearer} header, empty for any other scheme. */
+  public static Optional<String> bearerToken(HttpServletRequest request) {
+    String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (header == null || !header.startsWith(BEARER_PREFIX)) {
+      return Optional.empty();
+    }
+    return Optional.of(header.substring(BEARER_PREFIX.length()).trim());
+  }
+
+  private Optional<UsernamePasswordAuthenticationToken> authenticateByBearerToken(
+      HttpServletRequest request) {
+    return bearerToken(request)
+        .flatMap(
+            token ->
+                tokenService
+                    .resolve(token)
+                    .map(
+                        userDetails ->
+                            UsernamePasswordAuthenticationToken.authenticated(
+                                userDetails, token, userDetails.getAuthorities())));
+  }
+}
@@ -0,0 +1,26 @@
+package com.skypro.simplebanking.configuration;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class ProfilingBeanPostProcessor implements BeanPostProcessor {
+  private final ObjectProvider<RequestProfiler> requestProfiler;
+
+  public ProfilingBeanPostProcessor(ObjectProvider<RequestProfiler> requestProfiler) {
+    this.requestProfiler = requestProfiler;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+      return new ProfilingDataSource(dataSource, requestProfiler.getObject());
+    }
+    return bean;
+  }
+}
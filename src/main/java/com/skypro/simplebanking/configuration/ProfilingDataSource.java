@@ -0,0 +1,106 @@
+package com.skypro.simplebanking.configuration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+/**
+ * Reports connection acquire time and statement execution time to the {@link RequestProfiler}.
+ * Time spent in statements taking row locks ({@code for update}) is also reported on its own. It
+ * bounds the time spent waiting for row locks from above but is not a measure of it: an
+ * uncontended locking read costs as much as a plain one, and the JDBC driver does not tell the
+ * two apart.
+ */
+class ProfilingDataSource extends DelegatingDataSource {
+  private final RequestProfiler requestProfiler;
+
+  ProfilingDataSource(DataSource targetDataSource, RequestProfiler requestProfiler) {
+    super(targetDataSource);
+    this.requestProfiler = requestProfiler;
+  }
+
+  @Override
+  @NonNull
+  public Connection getConnection() throws SQLException {
+    long started = System.nanoTime();
+    Connection connection = super.getConnection();
+    requestProfiler.connectionAcquired(System.nanoTime() - started);
+    return profiled(connection);
+  }
+
+  @Override
+  @NonNull
+  public Connection getConnection(@NonNull String username, @NonNull String password)
+      throws SQLException {
+    long started = System.nanoTime();
+    Connection connection = super.getConnection(username, password);
+    requestProfiler.connectionAcquired(System.nanoTime() - started);
+    return profiled(connection);
+  }
+
+  private Connection profiled(Connection connection) {
+    return proxy(
+        Connection.class,
+        (proxy, method, args) -> {
+          Object result = invoke(connection, method, args);
+          if (result instanceof Statement statement) {
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return profiled(statement, sql);
+          }
+          return result;
+        });
+  }
+
+  private Statement profiled(Statement statement, String preparedSql) {
+    Class<? extends Statement> type =
+        statement instanceof CallableStatement
+            ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+    return proxy(
+        type,
+        (proxy, method, args) -> {
+          if (!method.getName().startsWith("execute")) {
+            return invoke(statement, method, args);
+          }
+          String sql =
+              args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+          long started = System.nanoTime();
+          try {
+            return invoke(statement, method, args);
+          } finally {
+            requestProfiler.statementExecuted(System.nanoTime() - started, isLocking(sql));
+          }
+        });
+  }
+
+  private static boolean isLocking(String sql) {
+    if (sql == null) {
+      return false;
+    }
+    String normalized = sql.toLowerCase(Locale.ROOT);
+    return normalized.contains(" for update") || normalized.contains(" for no key update");
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<?> type, InvocationHandler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+}
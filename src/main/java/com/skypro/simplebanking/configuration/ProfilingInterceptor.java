@@ -0,0 +1,41 @@
+package com.skypro.simplebanking.configuration;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class ProfilingInterceptor implements HandlerInterceptor {
+  private final RequestProfiler requestProfiler;
+
+  public ProfilingInterceptor(RequestProfiler requestProfiler) {
+    this.requestProfiler = requestProfiler;
+  }
+
+  @Override
+  public boolean preHandle(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler) {
+    if (handler instanceof HandlerMethod handlerMethod) {
+      requestProfiler.begin(
+          handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull Object handler,
+      @Nullable Exception ex) {
+    requestProfiler.end();
+  }
+}
@@ -0,0 +1,29 @@
+package com.skypro.simplebanking.configuration;
+
+import org.springframework.lang.NonNull;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/** Reports the duration of every physical transaction to the {@link RequestProfiler}. */
+class ProfilingJpaTransactionManager extends JpaTransactionManager {
+  private final RequestProfiler requestProfiler;
+
+  ProfilingJpaTransactionManager(RequestProfiler requestProfiler) {
+    this.requestProfiler = requestProfiler;
+  }
+
+  @Override
+  protected void doBegin(@NonNull Object transaction, @NonNull TransactionDefinition definition) {
+    super.doBegin(transaction, definition);
+    requestProfiler.transactionStarted(transaction);
+  }
+
+  @Override
+  protected void doCleanupAfterCompletion(@NonNull Object transaction) {
+    try {
+      super.doCleanupAfterCompletion(transaction);
+    } finally {
+      requestProfiler.transactionFinished(transaction);
+    }
+  }
+}
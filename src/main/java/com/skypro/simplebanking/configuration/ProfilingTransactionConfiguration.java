@@ -0,0 +1,26 @@
+package com.skypro.simplebanking.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Declares the transaction manager itself when profiling is enabled, so that Spring Boot's JPA
+ * configuration backs off and every bean still gets a full {@link JpaTransactionManager}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class ProfilingTransactionConfiguration {
+  @Bean
+  public JpaTransactionManager transactionManager(
+      RequestProfiler requestProfiler,
+      ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+    JpaTransactionManager transactionManager = new ProfilingJpaTransactionManager(requestProfiler);
+    transactionManagerCustomizers.ifAvailable(
+        customizers -> customizers.customize(transactionManager));
+    return transactionManager;
+  }
+}
@@ -0,0 +1,131 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.dto.SlowRequestDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects JDBC, connection pool and transaction timings for the request running on the current
+ * thread, and keeps the requests slower than {@code app.profiling.slow-request-threshold} in a
+ * fixed-size ring buffer. Work done outside a profiled request is ignored.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class RequestProfiler {
+  private final ThreadLocal<Profile> current = new ThreadLocal<>();
+  private final long slowRequestThresholdNanos;
+  private final AtomicReferenceArray<SlowRequestDTO> slowRequests;
+  private final AtomicLong slowRequestCount = new AtomicLong();
+
+  public RequestProfiler(
+      @Value("${app.profiling.slow-request-threshold:PT0.2S}") Duration slowRequestThreshold,
+      @Value("${app.profiling.slow-request-capacity:256}") int slowRequestCapacity) {
+    this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+    this.slowRequests = new AtomicReferenceArray<>(slowRequestCapacity);
+  }
+
+  public void begin(String handler) {
+    current.set(new Profile(handler));
+  }
+
+  public void end() {
+    Profile profile = current.get();
+    if (profile == null) {
+      return;
+    }
+    current.remove();
+    long durationNanos = System.nanoTime() - profile.startedNanos;
+    if (durationNanos >= slowRequestThresholdNanos) {
+      int slot = (int) (slowRequestCount.getAndIncrement() % slowRequests.length());
+      slowRequests.set(slot, profile.toSlowRequest(durationNanos));
+    }
+  }
+
+  void connectionAcquired(long nanos) {
+    Profile profile = current.get();
+    if (profile != null) {
+      profile.connectionAcquireNanos += nanos;
+    }
+  }
+
+  void statementExecuted(long nanos, boolean locking) {
+    Profile profile = current.get();
+    if (profile != null) {
+      profile.statementCount++;
+      profile.jdbcNanos += nanos;
+      if (locking) {
+        profile.lockingStatementNanos += nanos;
+      }
+    }
+  }
+
+  void transactionStarted(Object transaction) {
+    Profile profile = current.get();
+    if (profile != null) {
+      profile.openTransactions.put(transaction, System.nanoTime());
+    }
+  }
+
+  void transactionFinished(Object transaction) {
+    Profile profile = current.get();
+    if (profile != null) {
+      Long startedNanos = profile.openTransactions.remove(transaction);
+      if (startedNanos != null) {
+        profile.transactionNanos += System.nanoTime() - startedNanos;
+      }
+    }
+  }
+
+  /** Slow requests currently in the ring buffer, grouped by controller method. */
+  public Map<String, List<SlowRequestDTO>> getSlowRequests() {
+    Map<String, List<SlowRequestDTO>> byHandler = new LinkedHashMap<>();
+    for (int i = 0; i < slowRequests.length(); i++) {
+      SlowRequestDTO slowRequest = slowRequests.get(i);
+      if (slowRequest != null) {
+        byHandler
+            .computeIfAbsent(slowRequest.getHandler(), key -> new ArrayList<>())
+            .add(slowRequest);
+      }
+    }
+    return byHandler;
+  }
+
+  private static final class Profile {
+    private final String handler;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+    private final Map<Object, Long> openTransactions = new IdentityHashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+    private long connectionAcquireNanos;
+    private long transactionNanos;
+    private long lockingStatementNanos;
+
+    private Profile(String handler) {
+      this.handler = handler;
+    }
+
+    private SlowRequestDTO toSlowRequest(long durationNanos) {
+      return new SlowRequestDTO(
+          handler,
+          startedAt,
+          TimeUnit.NANOSECONDS.toMicros(durationNanos),
+          statementCount,
+          TimeUnit.NANOSECONDS.toMicros(jdbcNanos),
+          TimeUnit.NANOSECONDS.toMicros(connectionAcquireNanos),
+          TimeUnit.NANOSECONDS.toMicros(transactionNanos),
+          TimeUnit.NANOSECONDS.toMicros(lockingStatementNanos));
+    }
+  }
+}
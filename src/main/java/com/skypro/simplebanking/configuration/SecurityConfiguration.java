@@ -10,6 +10,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -21,7 +22,10 @@ public class SecurityConfiguration {
 
     @Bean
     public SecurityFilterChain httpSecurity(
-            HttpSecurity httpSecurity, AdminSecurityFilter adminSecurityFilter) throws Exception {
+            HttpSecurity httpSecurity,
+            AdminSecurityFilter adminSecurityFilter,
+            BearerTokenFilter bearerTokenFilter)
+            throws Exception {
         return httpSecurity
                 .csrf()
                 .disable()
@@ -39,6 +43,8 @@ public class SecurityConfiguration {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authorizeHttpRequests()
+                .antMatchers(HttpMethod.POST, "/auth/login")
+                .permitAll()
                 .antMatchers(HttpMethod.POST, "/user/")
                 .hasRole("ADMIN")
                 .antMatchers("/user/*")
@@ -47,9 +53,12 @@ public class SecurityConfiguration {
                 .hasRole("USER")
                 .antMatchers("/transfer/**")
                 .hasRole("USER")
+                .antMatchers("/admin/**")
+                .hasRole("ADMIN")
                 .anyRequest()
                 .authenticated()
                 .and()
+                .addFilterBefore(bearerTokenFilter, BasicAuthenticationFilter.class)
                 .addFilterBefore(adminSecurityFilter, AnonymousAuthenticationFilter.class)
                 .build();
     }
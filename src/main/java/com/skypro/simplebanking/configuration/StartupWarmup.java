@@ -0,0 +1,175 @@
+package com.skypro.simplebanking.configuration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.service.UserService;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends one round of user creation, login, account reads, deposit, transfer, withdrawal and
+ * logout to the local port, each request committing on its own, then deletes the two users it
+ * created. Runners complete before Spring Boot reports readiness, so the first real request does
+ * not pay for lazy bean creation, the security filters, Hibernate query compilation or JIT
+ * warm-up. The time to the first committed transfer is measured by StartupLoadTest.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "app.startup.warm-up", havingValue = "true")
+public class StartupWarmup implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+  private static final int CONCURRENT_READS = 4;
+
+  private final UserService userService;
+  private final ObjectMapper objectMapper;
+  private final ConfigurableApplicationContext applicationContext;
+  private final String adminToken;
+  private final boolean exitAfterWarmUp;
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  public StartupWarmup(
+      UserService userService,
+      ObjectMapper objectMapper,
+      ConfigurableApplicationContext applicationContext,
+      @Value("${app.security.admin-token}") String adminToken,
+      @Value("${app.startup.exit-after-warm-up:false}") boolean exitAfterWarmUp) {
+    this.userService = userService;
+    this.objectMapper = objectMapper;
+    this.applicationContext = applicationContext;
+    this.adminToken = adminToken;
+    this.exitAfterWarmUp = exitAfterWarmUp;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws InterruptedException {
+    if (applicationContext instanceof WebServerApplicationContext webContext
+        && webContext.getWebServer() != null) {
+      List<Long> createdUsers = new ArrayList<>();
+      try {
+        warmUp(webContext.getWebServer().getPort(), createdUsers);
+      } catch (IOException | RuntimeException e) {
+        log.warn("Warm-up failed, the first requests will run cold", e);
+      } finally {
+        createdUsers.forEach(userService::deleteUser);
+      }
+      long jvmStartTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+      log.info("Warm-up finished {} ms after JVM start", System.currentTimeMillis() - jvmStartTime);
+    }
+    if (exitAfterWarmUp) {
+      System.exit(SpringApplication.exit(applicationContext));
+    }
+  }
+
+  private void warmUp(int port, List<Long> createdUsers)
+      throws IOException, InterruptedException {
+    WarmUpUser sender = createUser(port, createdUsers);
+    WarmUpUser recipient = createUser(port, createdUsers);
+    long from = sender.accountIds.get(AccountCurrency.USD);
+    long to = recipient.accountIds.get(AccountCurrency.USD);
+
+    send(sender.authorized(request(port, "/user/me")).GET());
+    List<CompletableFuture<HttpResponse<String>>> reads = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_READS; i++) {
+      reads.add(
+          httpClient.sendAsync(
+              sender.authorized(request(port, "/account/" + from)).GET().build(),
+              HttpResponse.BodyHandlers.ofString()));
+    }
+    reads.forEach(CompletableFuture::join);
+    post(sender, port, "/account/deposit/" + from, "{\"amount\":1}");
+    post(
+        sender,
+        port,
+        "/transfer",
+        "{\"fromAccountId\":"
+            + from
+            + ",\"toUserId\":"
+            + recipient.id
+            + ",\"toAccountId\":"
+            + to
+            + ",\"amount\":1}");
+    post(recipient, port, "/account/withdraw/" + to, "{\"amount\":1}");
+    post(sender, port, "/auth/logout", "");
+    post(recipient, port, "/auth/logout", "");
+  }
+
+  private WarmUpUser createUser(int port, List<Long> createdUsers)
+      throws IOException, InterruptedException {
+    String username = "warm-up-" + UUID.randomUUID();
+    String credentials =
+        objectMapper.writeValueAsString(
+            new Credentials(username, UUID.randomUUID().toString()));
+    JsonNode user =
+        send(
+            request(port, "/user/")
+                .header("X-SECURITY-ADMIN-KEY", adminToken)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)));
+    createdUsers.add(user.get("id").asLong());
+    Map<AccountCurrency, Long> accountIds = new EnumMap<>(AccountCurrency.class);
+    for (JsonNode account : user.get("accounts")) {
+      accountIds.put(
+          AccountCurrency.valueOf(account.get("currency").asText()), account.get("id").asLong());
+    }
+    JsonNode token =
+        send(
+            request(port, "/auth/login")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(credentials)));
+    return new WarmUpUser(user.get("id").asLong(), token.get("token").asText(), accountIds);
+  }
+
+  private void post(WarmUpUser user, int port, String path, String body)
+      throws IOException, InterruptedException {
+    send(
+        user.authorized(request(port, path))
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofString(body)));
+  }
+
+  private static HttpRequest.Builder request(int port, String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+  }
+
+  private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+    HttpRequest built = request.build();
+    HttpResponse<String> response = httpClient.send(built, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IOException(
+          built.method() + " " + built.uri().getPath() + " returned " + response.statusCode());
+    }
+    return response.body().isEmpty() ? null : objectMapper.readTree(response.body());
+  }
+
+  private record Credentials(String username, String password) {}
+
+  private record WarmUpUser(long id, String token, Map<AccountCurrency, Long> accountIds) {
+    private HttpRequest.Builder authorized(HttpRequest.Builder request) {
+      return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+  }
+}
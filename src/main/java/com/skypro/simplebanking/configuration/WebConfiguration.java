@@ -0,0 +1,27 @@
+package com.skypro.simplebanking.configuration;
+
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+  private final ObjectProvider<ProfilingInterceptor> profilingInterceptor;
+
+  public WebConfiguration(ObjectProvider<ProfilingInterceptor> profilingInterceptor) {
+    this.profilingInterceptor = profilingInterceptor;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    profilingInterceptor.ifAvailable(registry::addInterceptor);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new AccountBinaryMessageConverter());
+  }
+}
@@ -3,7 +3,11 @@ package com.skypro.simplebanking.controller;
 import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.dto.BalanceChangeRequest;
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.dto.HoldRequest;
 import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.HoldService;
+import com.skypro.simplebanking.service.VelocityLimiter;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,9 +15,14 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/account")
 public class AccountController {
   private final AccountService accountService;
+  private final HoldService holdService;
+  private final VelocityLimiter velocityLimiter;
 
-  public AccountController(AccountService accountService) {
+  public AccountController(
+      AccountService accountService, HoldService holdService, VelocityLimiter velocityLimiter) {
     this.accountService = accountService;
+    this.holdService = holdService;
+    this.velocityLimiter = velocityLimiter;
   }
 
   @GetMapping("/{id}")
@@ -35,6 +44,34 @@ public class AccountController {
                                      @PathVariable("id") Long accountId,
                                      @RequestBody BalanceChangeRequest balanceChangeRequest){
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    return accountService.withdrawFromAccount(bankingUserDetails.getId(),accountId, balanceChangeRequest.getAmount());
+    return velocityLimiter.withinLimits(bankingUserDetails.getId(), accountId,
+        balanceChangeRequest.getAmount(),
+        () -> accountService.withdrawFromAccount(bankingUserDetails.getId(), accountId,
+            balanceChangeRequest.getAmount()));
+  }
+
+  @PostMapping("/hold/{id}")
+  public HoldDTO holdOnAccount(Authentication authentication,
+                               @PathVariable("id") Long accountId,
+                               @RequestBody HoldRequest holdRequest){
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return velocityLimiter.withinLimits(bankingUserDetails.getId(), accountId,
+        holdRequest.getAmount(),
+        () -> holdService.placeHold(bankingUserDetails.getId(), accountId,
+            holdRequest.getAmount(), holdRequest.getTtlSeconds()));
+  }
+
+  @PostMapping("/capture/{holdId}")
+  public AccountDTO captureHold(Authentication authentication,
+                               @PathVariable("holdId") Long holdId){
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return holdService.captureHold(bankingUserDetails.getId(), holdId);
+  }
+
+  @PostMapping("/release/{holdId}")
+  public AccountDTO releaseHold(Authentication authentication,
+                               @PathVariable("holdId") Long holdId){
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return holdService.releaseHold(bankingUserDetails.getId(), holdId);
   }
 }
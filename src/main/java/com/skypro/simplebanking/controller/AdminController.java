@@ -0,0 +1,52 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.configuration.RequestProfiler;
+import com.skypro.simplebanking.dto.CoalescingStatsDTO;
+import com.skypro.simplebanking.dto.CurrencyTotalsDTO;
+import com.skypro.simplebanking.dto.SlowRequestDTO;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.AccountTotals;
+import com.skypro.simplebanking.service.UserService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+  private final AccountService accountService;
+  private final UserService userService;
+  private final AccountTotals accountTotals;
+  private final ObjectProvider<RequestProfiler> requestProfiler;
+
+  public AdminController(
+      AccountService accountService,
+      UserService userService,
+      AccountTotals accountTotals,
+      ObjectProvider<RequestProfiler> requestProfiler) {
+    this.accountService = accountService;
+    this.userService = userService;
+    this.accountTotals = accountTotals;
+    this.requestProfiler = requestProfiler;
+  }
+
+  @GetMapping("/coalescing")
+  public List<CoalescingStatsDTO> getCoalescingStats() {
+    return List.of(accountService.getReadCoalescingStats(), userService.getReadCoalescingStats());
+  }
+
+  @GetMapping("/totals")
+  public List<CurrencyTotalsDTO> getTotals() {
+    return accountTotals.getTotals();
+  }
+
+  @GetMapping("/slow-requests")
+  public Map<String, List<SlowRequestDTO>> getSlowRequests() {
+    RequestProfiler profiler = requestProfiler.getIfAvailable();
+    return profiler == null ? Collections.emptyMap() : profiler.getSlowRequests();
+  }
+}
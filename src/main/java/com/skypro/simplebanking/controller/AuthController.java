@@ -0,0 +1,33 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.configuration.BearerTokenFilter;
+import com.skypro.simplebanking.dto.LoginRequest;
+import com.skypro.simplebanking.dto.TokenDTO;
+import com.skypro.simplebanking.exception.BearerTokenRequiredException;
+import com.skypro.simplebanking.service.TokenService;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+  private final TokenService tokenService;
+
+  public AuthController(TokenService tokenService) {
+    this.tokenService = tokenService;
+  }
+
+  @PostMapping("/login")
+  public TokenDTO login(@RequestBody LoginRequest loginRequest) {
+    return tokenService.login(loginRequest.getUsername(), loginRequest.getPassword());
+  }
+
+  @PostMapping("/logout")
+  public void logout(HttpServletRequest request) {
+    tokenService.revoke(
+        BearerTokenFilter.bearerToken(request).orElseThrow(BearerTokenRequiredException::new));
+  }
+}
@@ -1,13 +1,19 @@
 package com.skypro.simplebanking.controller;
 
 import com.skypro.simplebanking.exception.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
 public class BankingExceptionHandlers {
-  @ExceptionHandler(value = {AccountNotFoundException.class})
+  @ExceptionHandler(
+      value = {
+        AccountNotFoundException.class,
+        HoldNotFoundException.class,
+        ScheduledTransferNotFoundException.class
+      })
   public ResponseEntity<?> handleAccountNotFound() {
     return ResponseEntity.notFound().build();
   }
@@ -31,4 +37,29 @@ public class BankingExceptionHandlers {
   public ResponseEntity<?> handleWrongCurrency() {
     return ResponseEntity.badRequest().body("Account currencies should be same");
   }
+
+  @ExceptionHandler(value = {InvalidCredentialsException.class})
+  public ResponseEntity<?> handleInvalidCredentials() {
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+  }
+
+  @ExceptionHandler(value = {BearerTokenRequiredException.class})
+  public ResponseEntity<?> handleBearerTokenRequired() {
+    return ResponseEntity.badRequest().body("Only bearer tokens can be logged out");
+  }
+
+  @ExceptionHandler(value = {MalformedPayloadException.class})
+  public ResponseEntity<?> handleMalformedPayload() {
+    return ResponseEntity.badRequest().body("Malformed binary payload");
+  }
+
+  @ExceptionHandler(value = {BatchTooLargeException.class})
+  public ResponseEntity<?> handleBatchTooLarge(BatchTooLargeException exception) {
+    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(exception.getMessage());
+  }
+
+  @ExceptionHandler(value = {VelocityLimitExceededException.class})
+  public ResponseEntity<?> handleVelocityLimitExceeded(VelocityLimitExceededException exception) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(exception.getMessage());
+  }
 }
@@ -0,0 +1,38 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.ScheduledTransferDTO;
+import com.skypro.simplebanking.dto.ScheduledTransferRequest;
+import com.skypro.simplebanking.service.ScheduledTransferService;
+import java.util.List;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/transfer/scheduled")
+public class ScheduledTransferController {
+  private final ScheduledTransferService scheduledTransferService;
+
+  public ScheduledTransferController(ScheduledTransferService scheduledTransferService) {
+    this.scheduledTransferService = scheduledTransferService;
+  }
+
+  @PostMapping
+  public ScheduledTransferDTO createScheduledTransfer(
+      Authentication authentication, @RequestBody ScheduledTransferRequest request) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return scheduledTransferService.createScheduledTransfer(bankingUserDetails.getId(), request);
+  }
+
+  @GetMapping
+  public List<ScheduledTransferDTO> getScheduledTransfers(Authentication authentication) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return scheduledTransferService.listScheduledTransfers(bankingUserDetails.getId());
+  }
+
+  @DeleteMapping("/{id}")
+  public void cancelScheduledTransfer(Authentication authentication, @PathVariable("id") Long id) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    scheduledTransferService.cancelScheduledTransfer(bankingUserDetails.getId(), id);
+  }
+}
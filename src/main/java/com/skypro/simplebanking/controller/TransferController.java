@@ -1,8 +1,14 @@
 package com.skypro.simplebanking.controller;
 
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.BinaryFormat;
 import com.skypro.simplebanking.dto.TransferRequest;
 import com.skypro.simplebanking.service.TransferService;
+import com.skypro.simplebanking.service.VelocityLimiter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -13,15 +19,74 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/transfer")
 public class TransferController {
   private final TransferService transferService;
+  private final VelocityLimiter velocityLimiter;
+  /** Binary bodies are consumed on the request thread, so each worker reuses one buffer. */
+  private final ThreadLocal<ByteBuffer> transferBuffers;
 
-  public TransferController(TransferService transferService) {
+  public TransferController(TransferService transferService, VelocityLimiter velocityLimiter) {
     this.transferService = transferService;
+    this.velocityLimiter = velocityLimiter;
+    int bufferBytes = transferService.getMaxBatchSize() * BinaryFormat.TRANSFER_RECORD_BYTES;
+    this.transferBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(bufferBytes));
   }
 
   @PostMapping
   public void transfer(
       Authentication authentication, @RequestBody TransferRequest transferRequest) {
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    transferService.transfer(bankingUserDetails.getId(), transferRequest);
+    velocityLimiter.withinLimits(
+        bankingUserDetails.getId(),
+        transferRequest.getFromAccountId(),
+        transferRequest.getAmount(),
+        () -> transferService.transfer(bankingUserDetails.getId(), transferRequest));
+  }
+
+  @PostMapping(consumes = BinaryFormat.MEDIA_TYPE_VALUE)
+  public void transferBinary(Authentication authentication, HttpServletRequest request)
+      throws IOException {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    transferAllWithinLimits(bankingUserDetails.getId(), readTransferRecords(request, true));
+  }
+
+  @PostMapping("/batch")
+  public void transferBatch(
+      Authentication authentication, @RequestBody List<TransferRequest> transferRequests) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    transferService.checkBatchSize(transferRequests.size());
+    long[] accountIds =
+        transferRequests.stream().mapToLong(TransferRequest::getFromAccountId).toArray();
+    long[] amounts = transferRequests.stream().mapToLong(TransferRequest::getAmount).toArray();
+    velocityLimiter.withinLimits(
+        bankingUserDetails.getId(),
+        accountIds,
+        amounts,
+        () -> transferService.transferAll(bankingUserDetails.getId(), transferRequests));
+  }
+
+  @PostMapping(value = "/batch", consumes = BinaryFormat.MEDIA_TYPE_VALUE)
+  public void transferBatchBinary(Authentication authentication, HttpServletRequest request)
+      throws IOException {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    transferAllWithinLimits(bankingUserDetails.getId(), readTransferRecords(request, false));
+  }
+
+  private ByteBuffer readTransferRecords(HttpServletRequest request, boolean single)
+      throws IOException {
+    return BinaryFormat.readTransferRecords(
+        request.getInputStream(), request.getContentLengthLong(), transferBuffers.get(), single);
+  }
+
+  private void transferAllWithinLimits(long userId, ByteBuffer transferRecords) {
+    int records = transferRecords.remaining() / BinaryFormat.TRANSFER_RECORD_BYTES;
+    transferService.checkBatchSize(records);
+    long[] accountIds = new long[records];
+    long[] amounts = new long[records];
+    for (int i = 0; i < records; i++) {
+      int offset = i * BinaryFormat.TRANSFER_RECORD_BYTES;
+      accountIds[i] = transferRecords.getLong(offset);
+      amounts[i] = transferRecords.getLong(offset + 3 * Long.BYTES);
+    }
+    velocityLimiter.withinLimits(
+        userId, accountIds, amounts, () -> transferService.transferAll(userId, transferRecords));
   }
 }
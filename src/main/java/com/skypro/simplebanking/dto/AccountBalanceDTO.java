@@ -0,0 +1,19 @@
+package com.skypro.simplebanking.dto;
+
+public class AccountBalanceDTO {
+  private final long accountId;
+  private final long amount;
+
+  public AccountBalanceDTO(long accountId, long amount) {
+    this.accountId = accountId;
+    this.amount = amount;
+  }
+
+  public long getAccountId() {
+    return accountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+}
@@ -6,11 +6,13 @@ import com.skypro.simplebanking.entity.AccountCurrency;
 public class AccountDTO {
   private final long id;
   private final long amount;
+  private final long availableAmount;
   private final AccountCurrency currency;
 
-  public AccountDTO(long id, long amount, AccountCurrency currency) {
+  public AccountDTO(long id, long amount, long availableAmount, AccountCurrency currency) {
     this.id = id;
     this.amount = amount;
+    this.availableAmount = availableAmount;
     this.currency = currency;
   }
 
@@ -22,11 +24,19 @@ public class AccountDTO {
     return amount;
   }
 
+  public long getAvailableAmount() {
+    return availableAmount;
+  }
+
   public AccountCurrency getCurrency() {
     return currency;
   }
 
   public static AccountDTO from(Account account) {
-    return new AccountDTO(account.getId(), account.getAmount(), account.getAccountCurrency());
+    return new AccountDTO(
+        account.getId(),
+        account.getAmount(),
+        account.getAvailableAmount(),
+        account.getAccountCurrency());
   }
 }
@@ -0,0 +1,87 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.BatchTooLargeException;
+import com.skypro.simplebanking.exception.MalformedPayloadException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.springframework.http.MediaType;
+
+/**
+ * Fixed-layout big-endian encoding for high-volume clients.
+ *
+ * <p>Transfer record, 32 bytes: fromAccountId, toUserId, toAccountId, amount as int64. A batch
+ * is a plain concatenation of records.
+ *
+ * <p>Account record, versioned by the {@code v} media type parameter. Version 1, the default
+ * when no version is given, is 17 bytes: id and amount as int64 followed by the {@link
+ * AccountCurrency} ordinal as a single byte, so new currencies must only ever be appended to the
+ * enum. Version 2 ({@code ;v=2}) is 25 bytes and adds the available amount after the amount.
+ */
+public final class BinaryFormat {
+  public static final String MEDIA_TYPE_VALUE = "application/x-banking-binary";
+  public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+  public static final int TRANSFER_RECORD_BYTES = 4 * Long.BYTES;
+  public static final String VERSION_PARAMETER = "v";
+  public static final MediaType MEDIA_TYPE_V2 = MediaType.parseMediaType(MEDIA_TYPE_VALUE + ";v=2");
+  public static final int ACCOUNT_RECORD_V1_BYTES = 2 * Long.BYTES + 1;
+  public static final int ACCOUNT_RECORD_V2_BYTES = 3 * Long.BYTES + 1;
+
+  private BinaryFormat() {}
+
+  /**
+   * Reads a transfer body into {@code buffer}, whose capacity bounds the batch, and returns it
+   * flipped for reading. A body declared or found to be longer than the buffer is rejected
+   * without reading more than one byte past the capacity.
+   */
+  public static ByteBuffer readTransferRecords(
+      InputStream body, long contentLength, ByteBuffer buffer, boolean single) throws IOException {
+    buffer.clear();
+    if (contentLength <= buffer.capacity()) {
+      int read = 0;
+      while (buffer.hasRemaining() && read != -1) {
+        read = body.read(buffer.array(), buffer.position(), buffer.remaining());
+        buffer.position(buffer.position() + Math.max(read, 0));
+      }
+      if (read == -1 || body.read() == -1) {
+        buffer.flip();
+        if (buffer.remaining() == 0
+            || buffer.remaining() % TRANSFER_RECORD_BYTES != 0
+            || (single && buffer.remaining() != TRANSFER_RECORD_BYTES)) {
+          throw new MalformedPayloadException();
+        }
+        return buffer;
+      }
+    }
+    if (single) {
+      throw new MalformedPayloadException();
+    }
+    throw new BatchTooLargeException(
+        "Batch exceeds " + buffer.capacity() / TRANSFER_RECORD_BYTES + " transfers");
+  }
+
+  /** Account record version asked for by {@code mediaType}: 1 when unversioned, 0 if unknown. */
+  public static int accountVersion(MediaType mediaType) {
+    String version = mediaType.getParameter(VERSION_PARAMETER);
+    if (version == null || version.equals("1")) {
+      return 1;
+    }
+    return version.equals("2") ? 2 : 0;
+  }
+
+  public static int accountRecordBytes(int version) {
+    return version == 1 ? ACCOUNT_RECORD_V1_BYTES : ACCOUNT_RECORD_V2_BYTES;
+  }
+
+  public static byte[] encodeAccount(AccountDTO account, int version) {
+    ByteBuffer record =
+        ByteBuffer.allocate(accountRecordBytes(version))
+            .putLong(account.getId())
+            .putLong(account.getAmount());
+    if (version > 1) {
+      record.putLong(account.getAvailableAmount());
+    }
+    return record.put((byte) account.getCurrency().ordinal()).array();
+  }
+}
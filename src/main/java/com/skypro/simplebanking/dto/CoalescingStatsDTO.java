@@ -0,0 +1,29 @@
+package com.skypro.simplebanking.dto;
+
+public class CoalescingStatsDTO {
+  private final String name;
+  private final long requests;
+  private final long coalesced;
+
+  public CoalescingStatsDTO(String name, long requests, long coalesced) {
+    this.name = name;
+    this.requests = requests;
+    this.coalesced = coalesced;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getRequests() {
+    return requests;
+  }
+
+  public long getCoalesced() {
+    return coalesced;
+  }
+
+  public double getCoalescingRatio() {
+    return requests == 0 ? 0 : (double) coalesced / requests;
+  }
+}
@@ -0,0 +1,38 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.util.List;
+
+public class CurrencyTotalsDTO {
+  private final AccountCurrency currency;
+  private final long totalAmount;
+  private final long accountCount;
+  private final List<AccountBalanceDTO> topBalances;
+
+  public CurrencyTotalsDTO(
+      AccountCurrency currency,
+      long totalAmount,
+      long accountCount,
+      List<AccountBalanceDTO> topBalances) {
+    this.currency = currency;
+    this.totalAmount = totalAmount;
+    this.accountCount = accountCount;
+    this.topBalances = topBalances;
+  }
+
+  public AccountCurrency getCurrency() {
+    return currency;
+  }
+
+  public long getTotalAmount() {
+    return totalAmount;
+  }
+
+  public long getAccountCount() {
+    return accountCount;
+  }
+
+  public List<AccountBalanceDTO> getTopBalances() {
+    return topBalances;
+  }
+}
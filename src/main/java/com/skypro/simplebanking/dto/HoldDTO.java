@@ -0,0 +1,39 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.Hold;
+import java.time.Instant;
+
+public class HoldDTO {
+  private final long id;
+  private final long accountId;
+  private final long amount;
+  private final Instant expiresAt;
+
+  public HoldDTO(long id, long accountId, long amount, Instant expiresAt) {
+    this.id = id;
+    this.accountId = accountId;
+    this.amount = amount;
+    this.expiresAt = expiresAt;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public long getAccountId() {
+    return accountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public static HoldDTO from(Hold hold) {
+    return new HoldDTO(
+        hold.getId(), hold.getAccount().getId(), hold.getAmount(), hold.getExpiresAt());
+  }
+}
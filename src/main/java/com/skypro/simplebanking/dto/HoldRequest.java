@@ -0,0 +1,22 @@
+package com.skypro.simplebanking.dto;
+
+public class HoldRequest {
+  private long amount;
+  private long ttlSeconds;
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(long amount) {
+    this.amount = amount;
+  }
+
+  public long getTtlSeconds() {
+    return ttlSeconds;
+  }
+
+  public void setTtlSeconds(long ttlSeconds) {
+    this.ttlSeconds = ttlSeconds;
+  }
+}
@@ -0,0 +1,79 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.SchedulePeriod;
+import com.skypro.simplebanking.entity.ScheduledTransfer;
+import java.time.Instant;
+
+public class ScheduledTransferDTO {
+  private final long id;
+  private final long fromAccountId;
+  private final long toUserId;
+  private final long toAccountId;
+  private final long amount;
+  private final SchedulePeriod period;
+  private final Instant nextExecutionAt;
+  private final String lastFailure;
+
+  public ScheduledTransferDTO(
+      long id,
+      long fromAccountId,
+      long toUserId,
+      long toAccountId,
+      long amount,
+      SchedulePeriod period,
+      Instant nextExecutionAt,
+      String lastFailure) {
+    this.id = id;
+    this.fromAccountId = fromAccountId;
+    this.toUserId = toUserId;
+    this.toAccountId = toAccountId;
+    this.amount = amount;
+    this.period = period;
+    this.nextExecutionAt = nextExecutionAt;
+    this.lastFailure = lastFailure;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public long getToUserId() {
+    return toUserId;
+  }
+
+  public long getToAccountId() {
+    return toAccountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public SchedulePeriod getPeriod() {
+    return period;
+  }
+
+  public Instant getNextExecutionAt() {
+    return nextExecutionAt;
+  }
+
+  public String getLastFailure() {
+    return lastFailure;
+  }
+
+  public static ScheduledTransferDTO from(ScheduledTransfer scheduledTransfer) {
+    return new ScheduledTransferDTO(
+        scheduledTransfer.getId(),
+        scheduledTransfer.getFromAccountId(),
+        scheduledTransfer.getToUserId(),
+        scheduledTransfer.getToAccountId(),
+        scheduledTransfer.getAmount(),
+        scheduledTransfer.getPeriod(),
+        scheduledTransfer.getNextExecutionAt(),
+        scheduledTransfer.getLastFailure());
+  }
+}
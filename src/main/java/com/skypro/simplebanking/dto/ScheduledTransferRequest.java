@@ -0,0 +1,61 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.SchedulePeriod;
+import java.time.Instant;
+
+public class ScheduledTransferRequest {
+  private long fromAccountId;
+  private long toUserId;
+  private long toAccountId;
+  private long amount;
+  private SchedulePeriod period;
+  private Instant firstExecutionAt;
+
+  public long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public void setFromAccountId(long fromAccountId) {
+    this.fromAccountId = fromAccountId;
+  }
+
+  public long getToUserId() {
+    return toUserId;
+  }
+
+  public void setToUserId(long toUserId) {
+    this.toUserId = toUserId;
+  }
+
+  public long getToAccountId() {
+    return toAccountId;
+  }
+
+  public void setToAccountId(long toAccountId) {
+    this.toAccountId = toAccountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(long amount) {
+    this.amount = amount;
+  }
+
+  public SchedulePeriod getPeriod() {
+    return period;
+  }
+
+  public void setPeriod(SchedulePeriod period) {
+    this.period = period;
+  }
+
+  public Instant getFirstExecutionAt() {
+    return firstExecutionAt;
+  }
+
+  public void setFirstExecutionAt(Instant firstExecutionAt) {
+    this.firstExecutionAt = firstExecutionAt;
+  }
+}
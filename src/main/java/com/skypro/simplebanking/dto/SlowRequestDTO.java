@@ -0,0 +1,65 @@
+package com.skypro.simplebanking.dto;
+
+import java.time.Instant;
+
+public class SlowRequestDTO {
+  private final String handler;
+  private final Instant startedAt;
+  private final long durationMicros;
+  private final int statementCount;
+  private final long jdbcMicros;
+  private final long connectionAcquireMicros;
+  private final long transactionMicros;
+  private final long lockingStatementMicros;
+
+  public SlowRequestDTO(
+      String handler,
+      Instant startedAt,
+      long durationMicros,
+      int statementCount,
+      long jdbcMicros,
+      long connectionAcquireMicros,
+      long transactionMicros,
+      long lockingStatementMicros) {
+    this.handler = handler;
+    this.startedAt = startedAt;
+    this.durationMicros = durationMicros;
+    this.statementCount = statementCount;
+    this.jdbcMicros = jdbcMicros;
+    this.connectionAcquireMicros = connectionAcquireMicros;
+    this.transactionMicros = transactionMicros;
+    this.lockingStatementMicros = lockingStatementMicros;
+  }
+
+  public String getHandler() {
+    return handler;
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  public long getDurationMicros() {
+    return durationMicros;
+  }
+
+  public int getStatementCount() {
+    return statementCount;
+  }
+
+  public long getJdbcMicros() {
+    return jdbcMicros;
+  }
+
+  public long getConnectionAcquireMicros() {
+    return connectionAcquireMicros;
+  }
+
+  public long getTransactionMicros() {
+    return transactionMicros;
+  }
+
+  public long getLockingStatementMicros() {
+    return lockingStatementMicros;
+  }
+}
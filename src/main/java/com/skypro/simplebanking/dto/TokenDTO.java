@@ -0,0 +1,19 @@
+package com.skypro.simplebanking.dto;
+
+public class TokenDTO {
+  private final String token;
+  private final long expiresIn;
+
+  public TokenDTO(String token, long expiresIn) {
+    this.token = token;
+    this.expiresIn = expiresIn;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public long getExpiresIn() {
+    return expiresIn;
+  }
+}
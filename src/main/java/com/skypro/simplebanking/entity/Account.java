@@ -12,6 +12,7 @@ public class Account {
 
   private AccountCurrency accountCurrency;
   private Long amount;
+  private Long reservedAmount = 0L;
 
   @ManyToOne(optional = false)
   @JoinColumn(nullable = false, updatable = false, name = "user_id")
@@ -41,6 +42,18 @@ public class Account {
     this.amount = amount;
   }
 
+  public Long getReservedAmount() {
+    return reservedAmount;
+  }
+
+  public void setReservedAmount(Long reservedAmount) {
+    this.reservedAmount = reservedAmount;
+  }
+
+  public long getAvailableAmount() {
+    return amount - reservedAmount;
+  }
+
   public User getUser() {
     return user;
   }
@@ -0,0 +1,48 @@
+package com.skypro.simplebanking.entity;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "balance_changes")
+public class BalanceChange {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "balance-change-sequence")
+  @SequenceGenerator(name = "balance-change-sequence", sequenceName = "balance_change_sequence")
+  private Long id;
+
+  private AccountCurrency accountCurrency;
+  private Long amountDelta;
+  private Long accountCountDelta;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public AccountCurrency getAccountCurrency() {
+    return accountCurrency;
+  }
+
+  public void setAccountCurrency(AccountCurrency accountCurrency) {
+    this.accountCurrency = accountCurrency;
+  }
+
+  public Long getAmountDelta() {
+    return amountDelta;
+  }
+
+  public void setAmountDelta(Long amountDelta) {
+    this.amountDelta = amountDelta;
+  }
+
+  public Long getAccountCountDelta() {
+    return accountCountDelta;
+  }
+
+  public void setAccountCountDelta(Long accountCountDelta) {
+    this.accountCountDelta = accountCountDelta;
+  }
+}
@@ -0,0 +1,48 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "currency_summaries")
+public class CurrencySummary {
+  @Id
+  @Enumerated(EnumType.STRING)
+  private AccountCurrency accountCurrency;
+
+  private Long totalAmount;
+  private Long accountCount;
+  private Instant updatedAt;
+
+  public AccountCurrency getAccountCurrency() {
+    return accountCurrency;
+  }
+
+  public void setAccountCurrency(AccountCurrency accountCurrency) {
+    this.accountCurrency = accountCurrency;
+  }
+
+  public Long getTotalAmount() {
+    return totalAmount;
+  }
+
+  public void setTotalAmount(Long totalAmount) {
+    this.totalAmount = totalAmount;
+  }
+
+  public Long getAccountCount() {
+    return accountCount;
+  }
+
+  public void setAccountCount(Long accountCount) {
+    this.accountCount = accountCount;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
@@ -0,0 +1,52 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "holds")
+public class Hold {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hold-sequence")
+  @SequenceGenerator(name = "hold-sequence", sequenceName = "hold_sequence")
+  private Long id;
+
+  private Long amount;
+  private Instant expiresAt;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(nullable = false, updatable = false, name = "account_id")
+  private Account account;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+
+  public Account getAccount() {
+    return account;
+  }
+
+  public void setAccount(Account account) {
+    this.account = account;
+  }
+}
@@ -0,0 +1,58 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "outgoing_payments")
+public class OutgoingPayment {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outgoing-payment-sequence")
+  @SequenceGenerator(name = "outgoing-payment-sequence", sequenceName = "outgoing_payment_sequence")
+  private Long id;
+
+  private Long userId;
+  private AccountCurrency accountCurrency;
+  private Long amount;
+  private Instant createdAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public AccountCurrency getAccountCurrency() {
+    return accountCurrency;
+  }
+
+  public void setAccountCurrency(AccountCurrency accountCurrency) {
+    this.accountCurrency = accountCurrency;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
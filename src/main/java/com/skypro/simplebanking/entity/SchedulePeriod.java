@@ -0,0 +1,31 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+public enum SchedulePeriod {
+  ONCE,
+  DAILY,
+  WEEKLY,
+  MONTHLY;
+
+  /**
+   * Returns the execution {@code index} periods after {@code first}, or {@code null} if there is
+   * none. Every execution is derived from {@code first} rather than from its predecessor, so a
+   * monthly order anchored on the 31st runs on the last day of shorter months and returns to the
+   * 31st afterwards.
+   */
+  public Instant execution(Instant first, long index) {
+    if (index == 0) {
+      return first;
+    }
+    ZonedDateTime anchor = first.atZone(ZoneOffset.UTC);
+    return switch (this) {
+      case ONCE -> null;
+      case DAILY -> anchor.plusDays(index).toInstant();
+      case WEEKLY -> anchor.plusWeeks(index).toInstant();
+      case MONTHLY -> anchor.plusMonths(index).toInstant();
+    };
+  }
+}
@@ -0,0 +1,133 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "scheduled_transfers")
+public class ScheduledTransfer {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scheduled-transfer-sequence")
+  @SequenceGenerator(
+      name = "scheduled-transfer-sequence",
+      sequenceName = "scheduled_transfer_sequence")
+  private Long id;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(nullable = false, updatable = false, name = "user_id")
+  private User user;
+
+  private Long fromAccountId;
+  private Long toUserId;
+  private Long toAccountId;
+  private Long amount;
+  private SchedulePeriod period;
+  private Instant firstExecutionAt;
+  private Long executionIndex = 0L;
+  private Instant nextExecutionAt;
+  private String lastFailure;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public void setUser(User user) {
+    this.user = user;
+  }
+
+  public Long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public void setFromAccountId(Long fromAccountId) {
+    this.fromAccountId = fromAccountId;
+  }
+
+  public Long getToUserId() {
+    return toUserId;
+  }
+
+  public void setToUserId(Long toUserId) {
+    this.toUserId = toUserId;
+  }
+
+  public Long getToAccountId() {
+    return toAccountId;
+  }
+
+  public void setToAccountId(Long toAccountId) {
+    this.toAccountId = toAccountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public SchedulePeriod getPeriod() {
+    return period;
+  }
+
+  public void setPeriod(SchedulePeriod period) {
+    this.period = period;
+  }
+
+  public Instant getFirstExecutionAt() {
+    return firstExecutionAt;
+  }
+
+  public void setFirstExecutionAt(Instant firstExecutionAt) {
+    this.firstExecutionAt = firstExecutionAt;
+  }
+
+  public Long getExecutionIndex() {
+    return executionIndex;
+  }
+
+  public void setExecutionIndex(Long executionIndex) {
+    this.executionIndex = executionIndex;
+  }
+
+  public Instant getNextExecutionAt() {
+    return nextExecutionAt;
+  }
+
+  public void setNextExecutionAt(Instant nextExecutionAt) {
+    this.nextExecutionAt = nextExecutionAt;
+  }
+
+  public String getLastFailure() {
+    return lastFailure;
+  }
+
+  public void setLastFailure(String lastFailure) {
+    this.lastFailure = lastFailure;
+  }
+
+  /**
+   * Moves to the first execution strictly after {@code now}, skipping periods missed while the
+   * application was down. Returns {@code false} when the order has no executions left.
+   */
+  public boolean advancePast(Instant now) {
+    long index = executionIndex;
+    Instant next;
+    do {
+      index++;
+      next = period.execution(firstExecutionAt, index);
+    } while (next != null && !next.isAfter(now));
+    executionIndex = index;
+    nextExecutionAt = next;
+    return next != null;
+  }
+}
@@ -1,11 +1,49 @@
 package com.skypro.simplebanking.repository;
 
 import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
   Optional<Account> getAccountByUser_IdAndId(Long userId, Long accountId);
+
+  @Query("select a.accountCurrency from Account a where a.id = :id")
+  Optional<AccountCurrency> findCurrencyById(@Param("id") Long id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.id = :id")
+  Optional<Account> findLockedById(@Param("id") Long id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.user.id = :userId and a.id = :id")
+  Optional<Account> findLockedByUserIdAndId(@Param("userId") Long userId, @Param("id") Long id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.user.id = :userId order by a.id")
+  List<Account> findLockedByUserId(@Param("userId") Long userId);
+
+  @Query(
+      "select a.accountCurrency as currency, sum(a.amount) as totalAmount,"
+          + " count(a) as accountCount from Account a group by a.accountCurrency")
+  List<CurrencyTotals> summarizeByCurrency();
+
+  List<Account> findByAccountCurrencyOrderByAmountDesc(
+      AccountCurrency accountCurrency, Pageable pageable);
+
+  interface CurrencyTotals {
+    AccountCurrency getCurrency();
+
+    Long getTotalAmount();
+
+    Long getAccountCount();
+  }
 }
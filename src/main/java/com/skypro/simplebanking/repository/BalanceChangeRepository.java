@@ -0,0 +1,16 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.BalanceChange;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BalanceChangeRepository extends JpaRepository<BalanceChange, Long> {
+  @Query(
+      "select c.accountCurrency as currency, sum(c.amountDelta) as totalAmount,"
+          + " sum(c.accountCountDelta) as accountCount from BalanceChange c"
+          + " group by c.accountCurrency")
+  List<AccountRepository.CurrencyTotals> summarizeByCurrency();
+}
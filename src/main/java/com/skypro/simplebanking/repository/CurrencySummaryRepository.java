@@ -0,0 +1,25 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.CurrencySummary;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CurrencySummaryRepository
+    extends JpaRepository<CurrencySummary, AccountCurrency> {
+  @Modifying
+  @Query(
+      "update CurrencySummary s set s.totalAmount = s.totalAmount + :amount,"
+          + " s.accountCount = s.accountCount + :count, s.updatedAt = :now"
+          + " where s.accountCurrency = :currency")
+  int addChanges(
+      @Param("currency") AccountCurrency currency,
+      @Param("amount") long amount,
+      @Param("count") long count,
+      @Param("now") Instant now);
+}
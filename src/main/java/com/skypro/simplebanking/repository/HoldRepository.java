@@ -0,0 +1,36 @@
+package com.skypro.simplebanking.repository;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import com.skypro.simplebanking.entity.Hold;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HoldRepository extends JpaRepository<Hold, Long> {
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select h from Hold h where h.id = :id")
+  Optional<Hold> findLockedById(@Param("id") Long id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select h from Hold h where h.id = :id and h.account.user.id = :userId")
+  Optional<Hold> findLockedByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  Stream<HoldExpiry> streamAllBy();
+
+  interface HoldExpiry {
+    Long getId();
+
+    Instant getExpiresAt();
+  }
+}
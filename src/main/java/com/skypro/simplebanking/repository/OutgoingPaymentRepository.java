@@ -0,0 +1,23 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.OutgoingPayment;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutgoingPaymentRepository extends JpaRepository<OutgoingPayment, Long> {
+  List<OutgoingPayment> findAllByCreatedAtAfterOrderByCreatedAtDesc(Instant createdAt);
+
+  @Modifying
+  @Query("delete from OutgoingPayment p where p.createdAt < :cutoff")
+  int deleteAllCreatedBefore(@Param("cutoff") Instant cutoff);
+
+  @Modifying
+  @Query("delete from OutgoingPayment p where p.userId = :userId")
+  int deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,33 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.ScheduledTransfer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+  List<ScheduledTransfer> findAllByUser_IdOrderByNextExecutionAt(Long userId);
+
+  Optional<ScheduledTransfer> findByIdAndUser_Id(Long id, Long userId);
+
+  List<DueExecution> findAllByNextExecutionAtBefore(Instant horizon);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select s from ScheduledTransfer s where s.id = :id")
+  Optional<ScheduledTransfer> findLockedById(@Param("id") Long id);
+
+  interface DueExecution {
+    Long getId();
+
+    Long getFromAccountId();
+
+    Instant getNextExecutionAt();
+  }
+}
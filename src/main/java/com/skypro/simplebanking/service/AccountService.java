@@ -1,6 +1,7 @@
 package com.skypro.simplebanking.service;
 
 import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.CoalescingStatsDTO;
 import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
 import com.skypro.simplebanking.entity.User;
@@ -10,16 +11,35 @@ import com.skypro.simplebanking.exception.InvalidAmountException;
 import com.skypro.simplebanking.exception.WrongCurrencyException;
 import com.skypro.simplebanking.repository.AccountRepository;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class AccountService {
   private final AccountRepository accountRepository;
+  private final VelocityLimiter velocityLimiter;
+  private final AccountTotals accountTotals;
+  private final TransactionTemplate readOnlyTransaction;
+  private final SingleFlight<AccountKey, AccountDTO> accountReads =
+      new SingleFlight<>("account");
 
-  public AccountService(AccountRepository accountRepository) {
+  public AccountService(
+      AccountRepository accountRepository,
+      VelocityLimiter velocityLimiter,
+      AccountTotals accountTotals,
+      PlatformTransactionManager transactionManager) {
     this.accountRepository = accountRepository;
+    this.velocityLimiter = velocityLimiter;
+    this.accountTotals = accountTotals;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
   }
 
   @Transactional(propagation = Propagation.MANDATORY)
@@ -32,11 +52,39 @@ public class AccountService {
       account.setAmount(1L);
       user.getAccounts().add(account);
       accountRepository.save(account);
+      accountTotals.recordAccountCreated(account);
     }
   }
 
-  @Transactional(readOnly = true)
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void deleteAccounts(User user) {
+    for (Account account : accountRepository.findLockedByUserId(user.getId())) {
+      accountTotals.recordAccountDeleted(account);
+      accountRepository.delete(account);
+    }
+    user.setAccounts(new ArrayList<>());
+    velocityLimiter.forget(user.getId());
+  }
+
+  /**
+   * Concurrent reads of the same account share one query, which always starts after each caller
+   * arrived, so a caller sees its own committed writes. Callers already inside a transaction read
+   * on their own so that they see their uncommitted changes.
+   */
   public AccountDTO getAccount(long userId, Long accountId) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return loadAccount(userId, accountId);
+    }
+    return accountReads.execute(
+        new AccountKey(userId, accountId),
+        () -> readOnlyTransaction.execute(status -> loadAccount(userId, accountId)));
+  }
+
+  public CoalescingStatsDTO getReadCoalescingStats() {
+    return accountReads.stats();
+  }
+
+  private AccountDTO loadAccount(long userId, Long accountId) {
     return accountRepository
         .getAccountByUser_IdAndId(userId, accountId)
         .map(AccountDTO::from)
@@ -54,33 +102,95 @@ public class AccountService {
     }
   }
 
+  /**
+   * Row-locks the given accounts in ascending id order, so that concurrent transactions touching
+   * the same accounts queue up instead of deadlocking, and returns them by id; missing accounts
+   * are left out. Must run before any other read of those accounts in the transaction, otherwise
+   * the already loaded state is not refreshed.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Map<Long, Account> lockAccounts(long... accountIds) {
+    long[] ordered = accountIds.clone();
+    Arrays.sort(ordered);
+    Map<Long, Account> locked = new HashMap<>();
+    for (int i = 0; i < ordered.length; i++) {
+      if (i == 0 || ordered[i] != ordered[i - 1]) {
+        accountRepository
+            .findLockedById(ordered[i])
+            .ifPresent(account -> locked.put(account.getId(), account));
+      }
+    }
+    return locked;
+  }
+
+  /** Moves money between accounts already returned by {@link #lockAccounts}. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void transferBetweenLocked(
+      Map<Long, Account> locked,
+      long fromUserId,
+      long fromAccountId,
+      long toUserId,
+      long toAccountId,
+      long amount) {
+    Account from = locked.get(fromAccountId);
+    Account to = locked.get(toAccountId);
+    if (from == null || to == null) {
+      throw new AccountNotFoundException();
+    }
+    if (!from.getAccountCurrency().equals(to.getAccountCurrency())) {
+      throw new WrongCurrencyException();
+    }
+    withdraw(requireOwner(from, fromUserId), amount);
+    deposit(requireOwner(to, toUserId), amount);
+  }
+
   @Transactional
   public AccountDTO depositToAccount(long userId, Long accountId, long amount) {
-    if (amount < 0) {
-      throw new InvalidAmountException();
-    }
     Account account =
         accountRepository
-            .getAccountByUser_IdAndId(userId, accountId)
+            .findLockedByUserIdAndId(userId, accountId)
             .orElseThrow(AccountNotFoundException::new);
-    account.setAmount(account.getAmount() + amount);
+    deposit(account, amount);
     return AccountDTO.from(account);
   }
 
   @Transactional
   public AccountDTO withdrawFromAccount(long id, Long accountId, long amount) {
-    if (amount < 0) {
-      throw new InvalidAmountException();
-    }
     Account account =
         accountRepository
-            .getAccountByUser_IdAndId(id, accountId)
+            .findLockedByUserIdAndId(id, accountId)
             .orElseThrow(AccountNotFoundException::new);
-    if (account.getAmount() < amount) {
+    withdraw(account, amount);
+    return AccountDTO.from(account);
+  }
+
+  private void deposit(Account account, long amount) {
+    if (amount < 0) {
+      throw new InvalidAmountException();
+    }
+    account.setAmount(account.getAmount() + amount);
+    accountTotals.recordBalanceChange(account, amount);
+  }
+
+  private void withdraw(Account account, long amount) {
+    if (amount < 0) {
+      throw new InvalidAmountException();
+    }
+    if (account.getAvailableAmount() < amount) {
       throw new InsufficientFundsException(
           "Cannot withdraw " + amount + " " + account.getAccountCurrency().name());
     }
     account.setAmount(account.getAmount() - amount);
-    return AccountDTO.from(account);
+    accountTotals.recordBalanceChange(account, -amount);
+    velocityLimiter.journal(account, amount);
   }
+
+  private static Account requireOwner(Account account, long userId) {
+    if (account.getUser().getId() != userId) {
+      throw new AccountNotFoundException();
+    }
+    return account;
+  }
+
+  private record AccountKey(long userId, long accountId) {}
 }
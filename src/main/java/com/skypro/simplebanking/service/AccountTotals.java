@@ -0,0 +1,329 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.CurrencyTotalsDTO;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.BalanceChange;
+import com.skypro.simplebanking.entity.CurrencySummary;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.BalanceChangeRepository;
+import com.skypro.simplebanking.repository.CurrencySummaryRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Per-currency totals, account counts and largest balances, maintained incrementally from
+ * committed balance changes so that reading them never touches the accounts table. Every
+ * transaction that changes them also journals its per-currency deltas to balance_changes, and
+ * every {@code checkpoint-interval} the journal is folded into currency_summaries. Startup reads
+ * the summaries plus the journal left since the last checkpoint, and aggregates the accounts
+ * table only when there are no summaries yet. A top-N ranking that may have lost accuracy is
+ * refilled with one bounded query at each checkpoint.
+ *
+ * <p>Checkpoint and startup run in repeatable read transactions, so the journal rows deleted are
+ * exactly the ones added to the summaries, and the summaries and journal are read as of one
+ * moment.
+ */
+@Service
+public class AccountTotals {
+  private static final Logger log = LoggerFactory.getLogger(AccountTotals.class);
+
+  private final AccountRepository accountRepository;
+  private final BalanceChangeRepository balanceChangeRepository;
+  private final CurrencySummaryRepository currencySummaryRepository;
+  private final TransactionTemplate snapshotTransaction;
+  private final Duration checkpointInterval;
+  private final Object pendingChangesKey = new Object();
+  private final Map<AccountCurrency, LongAdder> totalAmounts =
+      new EnumMap<>(AccountCurrency.class);
+  private final Map<AccountCurrency, LongAdder> accountCounts =
+      new EnumMap<>(AccountCurrency.class);
+  private final Map<AccountCurrency, TopBalances> topBalances =
+      new EnumMap<>(AccountCurrency.class);
+  private ScheduledExecutorService checkpointer;
+
+  public AccountTotals(
+      AccountRepository accountRepository,
+      BalanceChangeRepository balanceChangeRepository,
+      CurrencySummaryRepository currencySummaryRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.totals.top-n:10}") int topN,
+      @Value("${app.totals.checkpoint-interval:PT1M}") Duration checkpointInterval) {
+    this.accountRepository = accountRepository;
+    this.balanceChangeRepository = balanceChangeRepository;
+    this.currencySummaryRepository = currencySummaryRepository;
+    this.snapshotTransaction = new TransactionTemplate(transactionManager);
+    this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.checkpointInterval = checkpointInterval;
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      totalAmounts.put(currency, new LongAdder());
+      accountCounts.put(currency, new LongAdder());
+      topBalances.put(currency, new TopBalances(topN));
+    }
+  }
+
+  @PostConstruct
+  public void load() {
+    snapshotTransaction.executeWithoutResult(
+        status -> {
+          List<CurrencySummary> summaries = currencySummaryRepository.findAll();
+          if (summaries.size() < AccountCurrency.values().length) {
+            seedSummaries();
+            return;
+          }
+          for (CurrencySummary summary : summaries) {
+            totalAmounts.get(summary.getAccountCurrency()).add(summary.getTotalAmount());
+            accountCounts.get(summary.getAccountCurrency()).add(summary.getAccountCount());
+          }
+          for (AccountRepository.CurrencyTotals changes :
+              balanceChangeRepository.summarizeByCurrency()) {
+            totalAmounts.get(changes.getCurrency()).add(changes.getTotalAmount());
+            accountCounts.get(changes.getCurrency()).add(changes.getAccountCount());
+          }
+        });
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      refillTopBalances(currency);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void startCheckpoints() {
+    checkpointer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "account-totals-checkpoint");
+              thread.setDaemon(true);
+              return thread;
+            });
+    checkpointer.scheduleWithFixedDelay(
+        this::checkpoint,
+        checkpointInterval.toMillis(),
+        checkpointInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public synchronized void stopCheckpoints() {
+    if (checkpointer != null) {
+      checkpointer.shutdownNow();
+    }
+  }
+
+  public void recordAccountCreated(Account account) {
+    record(account, 1, account.getAmount(), false);
+  }
+
+  public void recordBalanceChange(Account account, long delta) {
+    record(account, 0, delta, false);
+  }
+
+  public void recordAccountDeleted(Account account) {
+    record(account, -1, -account.getAmount(), true);
+  }
+
+  public List<CurrencyTotalsDTO> getTotals() {
+    List<CurrencyTotalsDTO> totals = new ArrayList<>(AccountCurrency.values().length);
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      totals.add(
+          new CurrencyTotalsDTO(
+              currency,
+              totalAmounts.get(currency).sum(),
+              accountCounts.get(currency).sum(),
+              topBalances.get(currency).top()));
+    }
+    return totals;
+  }
+
+  /** Seeds the summaries from the accounts table and drops the journal it already reflects. */
+  private void seedSummaries() {
+    Instant now = Instant.now();
+    Map<AccountCurrency, CurrencySummary> summaries = new EnumMap<>(AccountCurrency.class);
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      summaries.put(currency, summary(currency, 0, 0, now));
+    }
+    for (AccountRepository.CurrencyTotals totals : accountRepository.summarizeByCurrency()) {
+      summaries.put(
+          totals.getCurrency(),
+          summary(totals.getCurrency(), totals.getTotalAmount(), totals.getAccountCount(), now));
+    }
+    balanceChangeRepository.deleteAllInBatch();
+    currencySummaryRepository.saveAll(summaries.values());
+    for (CurrencySummary summary : summaries.values()) {
+      totalAmounts.get(summary.getAccountCurrency()).add(summary.getTotalAmount());
+      accountCounts.get(summary.getAccountCurrency()).add(summary.getAccountCount());
+    }
+  }
+
+  private static CurrencySummary summary(
+      AccountCurrency currency, long totalAmount, long accountCount, Instant now) {
+    CurrencySummary summary = new CurrencySummary();
+    summary.setAccountCurrency(currency);
+    summary.setTotalAmount(totalAmount);
+    summary.setAccountCount(accountCount);
+    summary.setUpdatedAt(now);
+    return summary;
+  }
+
+  private void checkpoint() {
+    try {
+      Instant now = Instant.now();
+      snapshotTransaction.executeWithoutResult(
+          status -> {
+            for (AccountRepository.CurrencyTotals changes :
+                balanceChangeRepository.summarizeByCurrency()) {
+              currencySummaryRepository.addChanges(
+                  changes.getCurrency(),
+                  changes.getTotalAmount(),
+                  changes.getAccountCount(),
+                  now);
+            }
+            balanceChangeRepository.deleteAllInBatch();
+          });
+    } catch (RuntimeException e) {
+      log.error("Account totals checkpoint failed", e);
+    }
+    try {
+      for (AccountCurrency currency : AccountCurrency.values()) {
+        if (!topBalances.get(currency).isExact()) {
+          refillTopBalances(currency);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("Top balances refill failed", e);
+    }
+  }
+
+  /**
+   * The query runs outside the ranking's lock; balances not yet committed when it started and
+   * updates arriving meanwhile are reapplied by the ranking on top of the query result.
+   */
+  private void refillTopBalances(AccountCurrency currency) {
+    TopBalances ranking = topBalances.get(currency);
+    ranking.startRefill();
+    List<Account> largest;
+    try {
+      largest =
+          accountRepository.findByAccountCurrencyOrderByAmountDesc(
+              currency, PageRequest.of(0, ranking.capacity()));
+    } catch (RuntimeException e) {
+      ranking.cancelRefill();
+      throw e;
+    }
+    long[] accountIds = new long[largest.size()];
+    long[] balances = new long[largest.size()];
+    for (int i = 0; i < largest.size(); i++) {
+      accountIds[i] = largest.get(i).getId();
+      balances[i] = largest.get(i).getAmount();
+    }
+    ranking.finishRefill(accountIds, balances);
+  }
+
+  private void record(Account account, int countDelta, long amountDelta, boolean deleted) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      AccountCurrency currency = account.getAccountCurrency();
+      accountCounts.get(currency).add(countDelta);
+      totalAmounts.get(currency).add(amountDelta);
+      if (deleted) {
+        topBalances.get(currency).remove(account.getId());
+      } else {
+        topBalances.get(currency).update(account.getId(), account.getAmount());
+      }
+      return;
+    }
+    PendingChanges changes =
+        (PendingChanges) TransactionSynchronizationManager.getResource(pendingChangesKey);
+    if (changes == null) {
+      changes = new PendingChanges();
+      TransactionSynchronizationManager.bindResource(pendingChangesKey, changes);
+      TransactionSynchronizationManager.registerSynchronization(changes);
+    }
+    changes.add(account, countDelta, amountDelta, deleted);
+  }
+
+  /**
+   * Changes of one transaction. The journal rows and the ranking updates are written just before
+   * commit, while the accounts are still locked, with each account's final balance; the totals
+   * are added once the commit succeeded.
+   */
+  private final class PendingChanges implements TransactionSynchronization {
+    private final long[] countDeltas = new long[AccountCurrency.values().length];
+    private final long[] amountDeltas = new long[AccountCurrency.values().length];
+    private final Map<Long, Account> changedAccounts = new LinkedHashMap<>();
+    private final Map<Long, Account> deletedAccounts = new LinkedHashMap<>();
+    private final List<PreparedBalance> prepared = new ArrayList<>();
+
+    private void add(Account account, int countDelta, long amountDelta, boolean deleted) {
+      int currency = account.getAccountCurrency().ordinal();
+      countDeltas[currency] += countDelta;
+      amountDeltas[currency] += amountDelta;
+      if (deleted) {
+        changedAccounts.remove(account.getId());
+        deletedAccounts.put(account.getId(), account);
+      } else {
+        changedAccounts.put(account.getId(), account);
+      }
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      for (AccountCurrency currency : AccountCurrency.values()) {
+        int index = currency.ordinal();
+        if (countDeltas[index] != 0 || amountDeltas[index] != 0) {
+          BalanceChange change = new BalanceChange();
+          change.setAccountCurrency(currency);
+          change.setAmountDelta(amountDeltas[index]);
+          change.setAccountCountDelta(countDeltas[index]);
+          balanceChangeRepository.save(change);
+        }
+      }
+      changedAccounts.values().forEach(account -> prepare(account, account.getAmount()));
+      deletedAccounts.values().forEach(account -> prepare(account, null));
+    }
+
+    private void prepare(Account account, Long balance) {
+      TopBalances ranking = topBalances.get(account.getAccountCurrency());
+      ranking.prepare(account.getId(), balance);
+      prepared.add(new PreparedBalance(ranking, account.getId(), balance));
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(pendingChangesKey);
+      boolean committed = status == STATUS_COMMITTED;
+      if (committed) {
+        for (AccountCurrency currency : AccountCurrency.values()) {
+          accountCounts.get(currency).add(countDeltas[currency.ordinal()]);
+          totalAmounts.get(currency).add(amountDeltas[currency.ordinal()]);
+        }
+      }
+      for (PreparedBalance balance : prepared) {
+        balance.ranking.complete(balance.accountId, balance.balance, committed);
+      }
+    }
+  }
+
+  private record PreparedBalance(TopBalances ranking, long accountId, Long balance) {}
+}
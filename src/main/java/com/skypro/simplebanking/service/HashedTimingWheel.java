@@ -0,0 +1,153 @@
+package com.skypro.simplebanking.service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timing wheel (Varghese and Lauck) that calls back with an id once its deadline has
+ * passed. Scheduling is O(1) and lock-free, and each tick only walks the bucket hashed to it, so
+ * the cost does not grow with the number of entries due later. All wheel state is owned by the
+ * single ticking thread; producers only append to a concurrent queue drained on each tick.
+ */
+public class HashedTimingWheel implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+  private final long tickMillis;
+  private final long startMillis;
+  private final int mask;
+  private final Timeout[] buckets;
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+  private final LongConsumer onExpiry;
+  private ScheduledExecutorService ticker;
+  private long currentTick;
+  /** Written only by the ticking thread, read by any. */
+  private volatile long size;
+
+  public HashedTimingWheel(
+      long tickMillis, int wheelSize, long startMillis, LongConsumer onExpiry) {
+    if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("tickMillis must be positive, wheelSize a power of two");
+    }
+    this.tickMillis = tickMillis;
+    this.startMillis = startMillis;
+    this.mask = wheelSize - 1;
+    this.buckets = new Timeout[wheelSize];
+    this.onExpiry = onExpiry;
+  }
+
+  public void schedule(long id, long deadlineMillis) {
+    pending.add(new Timeout(id, deadlineMillis));
+  }
+
+  public synchronized void start(String threadName) {
+    if (ticker != null) {
+      return;
+    }
+    ticker =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, threadName);
+              thread.setDaemon(true);
+              return thread;
+            });
+    ticker.scheduleAtFixedRate(
+        () -> {
+          try {
+            advanceTo(System.currentTimeMillis());
+          } catch (RuntimeException e) {
+            log.error("Timing wheel tick failed", e);
+          }
+        },
+        tickMillis,
+        tickMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Processes every tick up to {@code nowMillis}. Must only be called from one thread at a time;
+   * {@link #start} does so from its ticker.
+   */
+  public void advanceTo(long nowMillis) {
+    long targetTick = (nowMillis - startMillis) / tickMillis;
+    while (currentTick <= targetTick) {
+      transferPending();
+      expireBucket();
+      currentTick++;
+    }
+  }
+
+  /** Number of entries placed on the wheel, excluding those still queued for the next tick. */
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (ticker != null) {
+      ticker.shutdownNow();
+      ticker = null;
+    }
+  }
+
+  private void transferPending() {
+    Timeout timeout;
+    while ((timeout = pending.poll()) != null) {
+      long ticksFromStart =
+          Math.floorDiv(timeout.deadlineMillis - startMillis + tickMillis - 1, tickMillis);
+      long deadlineTick = Math.max(ticksFromStart, currentTick);
+      timeout.remainingRounds = (deadlineTick - currentTick) / buckets.length;
+      int index = (int) (deadlineTick & mask);
+      timeout.next = buckets[index];
+      buckets[index] = timeout;
+      size++;
+    }
+  }
+
+  private void expireBucket() {
+    int index = (int) (currentTick & mask);
+    Timeout previous = null;
+    Timeout timeout = buckets[index];
+    while (timeout != null) {
+      Timeout next = timeout.next;
+      if (timeout.remainingRounds <= 0) {
+        if (previous == null) {
+          buckets[index] = next;
+        } else {
+          previous.next = next;
+        }
+        size--;
+        fire(timeout.id);
+      } else {
+        timeout.remainingRounds--;
+        previous = timeout;
+      }
+      timeout = next;
+    }
+  }
+
+  private void fire(long id) {
+    try {
+      onExpiry.accept(id);
+    } catch (RuntimeException e) {
+      log.error("Expiry callback failed for {}", id, e);
+    }
+  }
+
+  private static final class Timeout {
+    private final long id;
+    private final long deadlineMillis;
+    private long remainingRounds;
+    private Timeout next;
+
+    private Timeout(long id, long deadlineMillis) {
+      this.id = id;
+      this.deadlineMillis = deadlineMillis;
+    }
+  }
+}
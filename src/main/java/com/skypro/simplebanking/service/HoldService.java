@@ -0,0 +1,171 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.Hold;
+import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.exception.HoldNotFoundException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.HoldRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reserves funds now and settles them later. A hold raises the account's reserved amount, which
+ * lowers the available balance checked by withdrawals; the ledger amount only changes on capture.
+ * Expiry is driven by a {@link HashedTimingWheel} fed on commit and rebuilt from the holds table
+ * on startup, so no periodic scan of the table is needed.
+ *
+ * <p>A hold counts against the {@link VelocityLimiter} and is journaled when it is placed; the
+ * capture only settles usage already counted, and releasing a hold does not give it back.
+ */
+@Service
+public class HoldService {
+  private final AccountRepository accountRepository;
+  private final HoldRepository holdRepository;
+  private final AccountTotals accountTotals;
+  private final VelocityLimiter velocityLimiter;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Duration defaultTtl;
+  private final Duration maxTtl;
+  private final HashedTimingWheel expiryWheel;
+
+  public HoldService(
+      AccountRepository accountRepository,
+      HoldRepository holdRepository,
+      AccountTotals accountTotals,
+      VelocityLimiter velocityLimiter,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.holds.default-ttl:P7D}") Duration defaultTtl,
+      @Value("${app.holds.max-ttl:P30D}") Duration maxTtl,
+      @Value("${app.holds.expiry-tick:PT1S}") Duration expiryTick) {
+    this.accountRepository = accountRepository;
+    this.holdRepository = holdRepository;
+    this.accountTotals = accountTotals;
+    this.velocityLimiter = velocityLimiter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.defaultTtl = defaultTtl;
+    this.maxTtl = maxTtl;
+    this.expiryWheel =
+        new HashedTimingWheel(
+            expiryTick.toMillis(), 4096, System.currentTimeMillis(), this::releaseExpired);
+  }
+
+  /** Streams the outstanding holds onto the wheel instead of loading them into one list. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startExpiry() {
+    readOnlyTransaction.executeWithoutResult(
+        status -> {
+          try (Stream<HoldRepository.HoldExpiry> holds = holdRepository.streamAllBy()) {
+            holds.forEach(
+                hold -> expiryWheel.schedule(hold.getId(), hold.getExpiresAt().toEpochMilli()));
+          }
+        });
+    expiryWheel.start("hold-expiry");
+  }
+
+  @PreDestroy
+  public void stopExpiry() {
+    expiryWheel.close();
+  }
+
+  /** A non-positive TTL selects the default one; longer TTLs are capped at the maximum. */
+  @Transactional
+  public HoldDTO placeHold(long userId, Long accountId, long amount, long ttlSeconds) {
+    if (amount <= 0) {
+      throw new InvalidAmountException();
+    }
+    Account account =
+        accountRepository
+            .findLockedByUserIdAndId(userId, accountId)
+            .orElseThrow(AccountNotFoundException::new);
+    if (account.getAvailableAmount() < amount) {
+      throw new InsufficientFundsException(
+          "Cannot hold " + amount + " " + account.getAccountCurrency().name());
+    }
+    account.setReservedAmount(account.getReservedAmount() + amount);
+    Hold hold = new Hold();
+    hold.setAccount(account);
+    hold.setAmount(amount);
+    Duration ttl =
+        ttlSeconds > 0 ? Duration.ofSeconds(Math.min(ttlSeconds, maxTtl.toSeconds())) : defaultTtl;
+    hold.setExpiresAt(Instant.now().plus(ttl));
+    holdRepository.save(hold);
+    velocityLimiter.journal(account, amount);
+    scheduleExpiryAfterCommit(hold.getId(), hold.getExpiresAt());
+    return HoldDTO.from(hold);
+  }
+
+  /** Settles a hold. Its funds were checked when it was placed, so no funds check runs here. */
+  @Transactional
+  public AccountDTO captureHold(long userId, long holdId) {
+    Hold hold =
+        holdRepository
+            .findLockedByIdAndUserId(holdId, userId)
+            .orElseThrow(HoldNotFoundException::new);
+    Account account = lockedAccountOf(hold);
+    account.setAmount(account.getAmount() - hold.getAmount());
+    account.setReservedAmount(account.getReservedAmount() - hold.getAmount());
+    holdRepository.delete(hold);
+    accountTotals.recordBalanceChange(account, -hold.getAmount());
+    return AccountDTO.from(account);
+  }
+
+  @Transactional
+  public AccountDTO releaseHold(long userId, long holdId) {
+    Hold hold =
+        holdRepository
+            .findLockedByIdAndUserId(holdId, userId)
+            .orElseThrow(HoldNotFoundException::new);
+    return AccountDTO.from(release(hold));
+  }
+
+  private void releaseExpired(long holdId) {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            holdRepository
+                .findLockedById(holdId)
+                .filter(hold -> !hold.getExpiresAt().isAfter(Instant.now()))
+                .ifPresent(this::release));
+  }
+
+  private Account release(Hold hold) {
+    Account account = lockedAccountOf(hold);
+    account.setReservedAmount(account.getReservedAmount() - hold.getAmount());
+    holdRepository.delete(hold);
+    return account;
+  }
+
+  private Account lockedAccountOf(Hold hold) {
+    return accountRepository
+        .findLockedById(hold.getAccount().getId())
+        .orElseThrow(AccountNotFoundException::new);
+  }
+
+  private void scheduleExpiryAfterCommit(long holdId, Instant expiresAt) {
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            expiryWheel.schedule(holdId, expiresAt.toEpochMilli());
+          }
+        });
+  }
+}
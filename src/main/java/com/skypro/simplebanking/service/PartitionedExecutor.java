@@ -0,0 +1,96 @@
+package com.skypro.simplebanking.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs work on a fixed number of single-threaded lanes. Items with the same key always land on the
+ * same lane, so they run one after another in submission order no matter how many batches they
+ * are split into.
+ *
+ * <p>Each lane has a bounded queue and submitting to a full lane blocks the submitter, so a burst
+ * slows down the producer instead of spilling onto its thread.
+ */
+class PartitionedExecutor {
+  private static final Logger log = LoggerFactory.getLogger(PartitionedExecutor.class);
+  private static final long IDLE_POLL_MILLIS = 100;
+
+  private final List<BlockingQueue<Runnable>> queues;
+  private final List<Thread> threads;
+  private volatile boolean stopped;
+
+  PartitionedExecutor(String name, int lanes, int queueCapacity) {
+    queues = new ArrayList<>(lanes);
+    threads = new ArrayList<>(lanes);
+    for (int lane = 0; lane < lanes; lane++) {
+      BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+      Thread thread = new Thread(() -> drain(queue), name + "-" + (lane + 1));
+      thread.setDaemon(true);
+      queues.add(queue);
+      threads.add(thread);
+      thread.start();
+    }
+  }
+
+  /**
+   * Splits {@code items} by the lane of their key into batches of at most {@code batchSize},
+   * keeping their relative order, and queues each batch on its lane. Lanes are served
+   * round-robin so one busy lane does not hold back the others.
+   */
+  <T> void executeInBatches(
+      List<T> items, ToLongFunction<T> key, int batchSize, Consumer<List<T>> action)
+      throws InterruptedException {
+    List<List<T>> byLane = new ArrayList<>(queues.size());
+    for (int lane = 0; lane < queues.size(); lane++) {
+      byLane.add(new ArrayList<>());
+    }
+    for (T item : items) {
+      byLane.get((int) Math.floorMod(key.applyAsLong(item), (long) queues.size())).add(item);
+    }
+    for (int from = 0; ; from += batchSize) {
+      boolean submitted = false;
+      for (int lane = 0; lane < queues.size(); lane++) {
+        List<T> laneItems = byLane.get(lane);
+        if (from < laneItems.size()) {
+          List<T> batch = laneItems.subList(from, Math.min(from + batchSize, laneItems.size()));
+          queues.get(lane).put(() -> action.accept(batch));
+          submitted = true;
+        }
+      }
+      if (!submitted) {
+        return;
+      }
+    }
+  }
+
+  /** Drops queued work and lets every lane exit after the task it is running. */
+  void shutdown() {
+    stopped = true;
+    queues.forEach(BlockingQueue::clear);
+  }
+
+  private void drain(BlockingQueue<Runnable> queue) {
+    while (!stopped) {
+      Runnable task;
+      try {
+        task = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        return;
+      }
+      if (task != null) {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          log.error("Partitioned task failed", e);
+        }
+      }
+    }
+  }
+}
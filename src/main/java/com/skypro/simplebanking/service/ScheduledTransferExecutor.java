@@ -0,0 +1,203 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.entity.ScheduledTransfer;
+import com.skypro.simplebanking.repository.ScheduledTransferRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs scheduled transfers when they come due.
+ *
+ * <p>Upcoming executions live in a min-heap that only covers the next {@code index-horizon}; it
+ * is rebuilt from the database when the horizon runs out. Each poll pops everything due and hands
+ * it in batches to a {@link PartitionedExecutor} keyed by source account, so orders debiting the
+ * same account run one after another on one worker. There are far fewer workers than pooled
+ * connections, and a full worker queue stalls the poller rather than running transfers on it, so
+ * interactive requests keep getting connections while a burst is drained.
+ *
+ * <p>Every execution re-reads its order under a row lock and skips it unless it is still due at
+ * the expected time, which makes stale heap entries and rebuilds harmless.
+ */
+@Service
+public class ScheduledTransferExecutor {
+  private static final Logger log = LoggerFactory.getLogger(ScheduledTransferExecutor.class);
+
+  private final ScheduledTransferRepository scheduledTransferRepository;
+  private final TransferService transferService;
+  private final VelocityLimiter velocityLimiter;
+  private final TransactionTemplate transactionTemplate;
+  private final int workers;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Duration indexHorizon;
+  private final PriorityQueue<Due> index =
+      new PriorityQueue<>(Comparator.comparing(Due::dueAt));
+  private Instant indexedUntil = Instant.MIN;
+  private ScheduledExecutorService poller;
+  private PartitionedExecutor workerLanes;
+
+  public ScheduledTransferExecutor(
+      ScheduledTransferRepository scheduledTransferRepository,
+      TransferService transferService,
+      VelocityLimiter velocityLimiter,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.scheduled-transfers.workers:4}") int workers,
+      @Value("${app.scheduled-transfers.batch-size:100}") int batchSize,
+      @Value("${app.scheduled-transfers.poll-interval:PT1S}") Duration pollInterval,
+      @Value("${app.scheduled-transfers.index-horizon:PT1H}") Duration indexHorizon) {
+    this.scheduledTransferRepository = scheduledTransferRepository;
+    this.transferService = transferService;
+    this.velocityLimiter = velocityLimiter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.indexHorizon = indexHorizon;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void start() {
+    workerLanes = new PartitionedExecutor("scheduled-transfer", workers, 2);
+    poller =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "scheduled-transfer-poller");
+              thread.setDaemon(true);
+              return thread;
+            });
+    poller.scheduleWithFixedDelay(
+        this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public synchronized void stop() {
+    if (poller != null) {
+      poller.shutdownNow();
+      workerLanes.shutdown();
+    }
+  }
+
+  /** Makes an order created or moved by the current transaction visible once it commits. */
+  public void indexAfterCommit(long id, long fromAccountId, Instant dueAt) {
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            index(id, fromAccountId, dueAt);
+          }
+        });
+  }
+
+  private synchronized void index(long id, long fromAccountId, Instant dueAt) {
+    if (dueAt.isBefore(indexedUntil)) {
+      index.add(new Due(id, fromAccountId, dueAt));
+    }
+  }
+
+  private void poll() {
+    try {
+      workerLanes.executeInBatches(
+          takeDue(Instant.now()),
+          Due::fromAccountId,
+          batchSize,
+          batch -> batch.forEach(this::execute));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.error("Scheduled transfer poll failed", e);
+    }
+  }
+
+  private synchronized List<Due> takeDue(Instant now) {
+    if (!now.isBefore(indexedUntil)) {
+      rebuildIndex(now);
+    }
+    List<Due> due = new ArrayList<>();
+    while (!index.isEmpty() && !index.peek().dueAt().isAfter(now)) {
+      due.add(index.poll());
+    }
+    return due;
+  }
+
+  private void rebuildIndex(Instant now) {
+    Instant horizon = now.plus(indexHorizon);
+    index.clear();
+    for (ScheduledTransferRepository.DueExecution due :
+        scheduledTransferRepository.findAllByNextExecutionAtBefore(horizon)) {
+      index.add(new Due(due.getId(), due.getFromAccountId(), due.getNextExecutionAt()));
+    }
+    indexedUntil = horizon;
+  }
+
+  private void execute(Due due) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              lockIfStillDue(due)
+                  .ifPresent(
+                      order -> {
+                        long userId = order.getUser().getId();
+                        velocityLimiter.withinLimits(
+                            userId,
+                            order.getFromAccountId(),
+                            order.getAmount(),
+                            () ->
+                                transferService.transfer(
+                                    userId,
+                                    order.getFromAccountId(),
+                                    order.getToUserId(),
+                                    order.getToAccountId(),
+                                    order.getAmount()));
+                        advance(order, null);
+                      }));
+    } catch (RuntimeException e) {
+      String failure = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> lockIfStillDue(due).ifPresent(order -> advance(order, failure)));
+      } catch (RuntimeException recordingFailure) {
+        log.error("Could not record failure of scheduled transfer {}", due.id(), recordingFailure);
+      }
+    }
+  }
+
+  private Optional<ScheduledTransfer> lockIfStillDue(Due due) {
+    return scheduledTransferRepository
+        .findLockedById(due.id())
+        .filter(order -> Objects.equals(order.getNextExecutionAt(), due.dueAt()));
+  }
+
+  private void advance(ScheduledTransfer order, String failure) {
+    boolean hasNext = order.advancePast(Instant.now());
+    if (!hasNext && failure == null) {
+      scheduledTransferRepository.delete(order);
+      return;
+    }
+    order.setLastFailure(failure);
+    if (hasNext) {
+      indexAfterCommit(order.getId(), order.getFromAccountId(), order.getNextExecutionAt());
+    }
+  }
+
+  private record Due(long id, long fromAccountId, Instant dueAt) {}
+}
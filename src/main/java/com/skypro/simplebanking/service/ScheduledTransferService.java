@@ -0,0 +1,82 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.ScheduledTransferDTO;
+import com.skypro.simplebanking.dto.ScheduledTransferRequest;
+import com.skypro.simplebanking.entity.SchedulePeriod;
+import com.skypro.simplebanking.entity.ScheduledTransfer;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.ScheduledTransferNotFoundException;
+import com.skypro.simplebanking.repository.ScheduledTransferRepository;
+import com.skypro.simplebanking.repository.UserRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ScheduledTransferService {
+  private final ScheduledTransferRepository scheduledTransferRepository;
+  private final UserRepository userRepository;
+  private final AccountService accountService;
+  private final ScheduledTransferExecutor scheduledTransferExecutor;
+
+  public ScheduledTransferService(
+      ScheduledTransferRepository scheduledTransferRepository,
+      UserRepository userRepository,
+      AccountService accountService,
+      ScheduledTransferExecutor scheduledTransferExecutor) {
+    this.scheduledTransferRepository = scheduledTransferRepository;
+    this.userRepository = userRepository;
+    this.accountService = accountService;
+    this.scheduledTransferExecutor = scheduledTransferExecutor;
+  }
+
+  @Transactional
+  public ScheduledTransferDTO createScheduledTransfer(
+      long userId, ScheduledTransferRequest request) {
+    if (request.getAmount() <= 0) {
+      throw new InvalidAmountException();
+    }
+    accountService.getAccount(userId, request.getFromAccountId());
+    accountService.getAccount(request.getToUserId(), request.getToAccountId());
+    accountService.validateCurrency(request.getFromAccountId(), request.getToAccountId());
+
+    Instant firstExecutionAt =
+        (request.getFirstExecutionAt() == null ? Instant.now() : request.getFirstExecutionAt())
+            .truncatedTo(ChronoUnit.SECONDS);
+    ScheduledTransfer scheduledTransfer = new ScheduledTransfer();
+    scheduledTransfer.setUser(userRepository.getReferenceById(userId));
+    scheduledTransfer.setFromAccountId(request.getFromAccountId());
+    scheduledTransfer.setToUserId(request.getToUserId());
+    scheduledTransfer.setToAccountId(request.getToAccountId());
+    scheduledTransfer.setAmount(request.getAmount());
+    scheduledTransfer.setPeriod(
+        request.getPeriod() == null ? SchedulePeriod.ONCE : request.getPeriod());
+    scheduledTransfer.setFirstExecutionAt(firstExecutionAt);
+    scheduledTransfer.setNextExecutionAt(firstExecutionAt);
+    scheduledTransferRepository.save(scheduledTransfer);
+    scheduledTransferExecutor.indexAfterCommit(
+        scheduledTransfer.getId(),
+        scheduledTransfer.getFromAccountId(),
+        scheduledTransfer.getNextExecutionAt());
+    return ScheduledTransferDTO.from(scheduledTransfer);
+  }
+
+  @Transactional(readOnly = true)
+  public List<ScheduledTransferDTO> listScheduledTransfers(long userId) {
+    return scheduledTransferRepository.findAllByUser_IdOrderByNextExecutionAt(userId).stream()
+        .map(ScheduledTransferDTO::from)
+        .collect(Collectors.toList());
+  }
+
+  @Transactional
+  public void cancelScheduledTransfer(long userId, long id) {
+    ScheduledTransfer scheduledTransfer =
+        scheduledTransferRepository
+            .findByIdAndUser_Id(id, userId)
+            .orElseThrow(ScheduledTransferNotFoundException::new);
+    scheduledTransferRepository.delete(scheduledTransfer);
+  }
+}
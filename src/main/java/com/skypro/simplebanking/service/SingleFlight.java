@@ -0,0 +1,97 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.CoalescingStatsDTO;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers asking for the same key share one execution of the loader. No lock is
+ * held while the loader runs, and the key is released as soon as the result is published.
+ *
+ * <p>A caller only ever shares a load that starts after it arrived, so it observes every write
+ * committed before its call. Callers arriving while a load is running form the next flight,
+ * which starts once the running one finishes; at most two loads per key are in progress.
+ */
+public class SingleFlight<K, V> {
+  private final String name;
+  private final ConcurrentMap<K, Flight<V>> newestFlights = new ConcurrentHashMap<>();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  public SingleFlight(String name) {
+    this.name = name;
+  }
+
+  public V execute(K key, Supplier<V> loader) {
+    requests.increment();
+    Flight<V> created = new Flight<>();
+    Flight<V> flight =
+        newestFlights.compute(
+            key,
+            (k, newest) -> {
+              if (newest != null && !newest.started) {
+                return newest;
+              }
+              created.predecessor = newest;
+              return created;
+            });
+    if (flight != created) {
+      coalesced.increment();
+      return await(flight.result);
+    }
+    if (created.predecessor != null) {
+      created.predecessor.result.handle((value, failure) -> null).join();
+      created.predecessor = null;
+    }
+    // Closes the flight to new members: everyone inside arrived before the loader starts.
+    newestFlights.computeIfPresent(
+        key,
+        (k, newest) -> {
+          created.started = true;
+          return newest;
+        });
+    V value;
+    try {
+      value = loader.get();
+    } catch (RuntimeException | Error e) {
+      newestFlights.remove(key, created);
+      created.result.completeExceptionally(e);
+      throw e;
+    }
+    newestFlights.remove(key, created);
+    created.result.complete(value);
+    return value;
+  }
+
+  public CoalescingStatsDTO stats() {
+    return new CoalescingStatsDTO(name, requests.sum(), coalesced.sum());
+  }
+
+  private static <V> V await(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * {@code predecessor} is only used by the leader's thread; {@code started} is only accessed
+   * inside map operations on the flight's key.
+   */
+  private static final class Flight<V> {
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+    private Flight<V> predecessor;
+    private boolean started;
+  }
+}
@@ -0,0 +1,56 @@
+package com.skypro.simplebanking.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sum over a sliding window kept as a ring of time buckets. Each bucket packs the low bits of
+ * its epoch together with its amount into one long, so rolling a bucket over to a new epoch and
+ * adding to it is a single CAS and stale buckets are recognised without any clearing pass.
+ * Updates stamped before the start of the current window are dropped.
+ */
+final class SlidingWindowCounter {
+  private static final int EPOCH_BITS = 24;
+  private static final int AMOUNT_BITS = Long.SIZE - EPOCH_BITS;
+  private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+  private static final long AMOUNT_MASK = (1L << AMOUNT_BITS) - 1;
+
+  private final long bucketMillis;
+  private final int bucketCount;
+  private final AtomicLongArray buckets;
+
+  SlidingWindowCounter(long bucketMillis, int bucketCount) {
+    this.bucketMillis = bucketMillis;
+    this.bucketCount = bucketCount;
+    this.buckets = new AtomicLongArray(bucketCount);
+  }
+
+  void add(long timestampMillis, long delta, long nowMillis) {
+    long epoch = timestampMillis / bucketMillis;
+    if (epoch <= nowMillis / bucketMillis - bucketCount) {
+      return;
+    }
+    int slot = (int) (epoch % bucketCount);
+    long tag = epoch & EPOCH_MASK;
+    while (true) {
+      long current = buckets.get(slot);
+      long amount = (current >>> AMOUNT_BITS) == tag ? current & AMOUNT_MASK : 0;
+      long updated = Math.max(0, Math.min(AMOUNT_MASK, amount + delta));
+      if (buckets.compareAndSet(slot, current, (tag << AMOUNT_BITS) | updated)) {
+        return;
+      }
+    }
+  }
+
+  long sum(long nowMillis) {
+    long epoch = nowMillis / bucketMillis;
+    long total = 0;
+    for (int i = 0; i < bucketCount; i++) {
+      long bucketEpoch = epoch - i;
+      long value = buckets.get((int) (bucketEpoch % bucketCount));
+      if ((value >>> AMOUNT_BITS) == (bucketEpoch & EPOCH_MASK)) {
+        total += value & AMOUNT_MASK;
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,101 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.TokenDTO;
+import com.skypro.simplebanking.exception.InvalidCredentialsException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Issues opaque bearer tokens in exchange for credentials. Password hashing is paid once at
+ * login; afterwards a token is resolved with a single in-memory lookup.
+ */
+@Service
+public class TokenService {
+  private static final int TOKEN_BYTES = 32;
+  private static final int SWEEP_EVERY_ISSUED = 1024;
+
+  private final UserService userService;
+  private final PasswordEncoder passwordEncoder;
+  private final Duration tokenTtl;
+  private final SecureRandom random = new SecureRandom();
+  private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong issued = new AtomicLong();
+
+  public TokenService(
+      UserService userService,
+      PasswordEncoder passwordEncoder,
+      @Value("${app.security.token-ttl:PT1H}") Duration tokenTtl) {
+    this.userService = userService;
+    this.passwordEncoder = passwordEncoder;
+    this.tokenTtl = tokenTtl;
+  }
+
+  public TokenDTO login(String username, String password) {
+    UserDetails userDetails;
+    try {
+      userDetails = userService.loadUserByUsername(username);
+    } catch (UsernameNotFoundException e) {
+      throw new InvalidCredentialsException();
+    }
+    if (password == null || !passwordEncoder.matches(password, userDetails.getPassword())) {
+      throw new InvalidCredentialsException();
+    }
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) userDetails;
+    return issue(
+        new BankingUserDetails(
+            bankingUserDetails.getId(), bankingUserDetails.getUsername(), "****", false));
+  }
+
+  public Optional<BankingUserDetails> resolve(String token) {
+    Session session = sessions.get(token);
+    if (session == null) {
+      return Optional.empty();
+    }
+    if (session.isExpired(System.currentTimeMillis())) {
+      sessions.remove(token, session);
+      return Optional.empty();
+    }
+    return Optional.of(session.userDetails);
+  }
+
+  public void revoke(String token) {
+    sessions.remove(token);
+  }
+
+  private TokenDTO issue(BankingUserDetails userDetails) {
+    long now = System.currentTimeMillis();
+    if (issued.incrementAndGet() % SWEEP_EVERY_ISSUED == 0) {
+      sessions.values().removeIf(session -> session.isExpired(now));
+    }
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    sessions.put(token, new Session(userDetails, now + tokenTtl.toMillis()));
+    return new TokenDTO(token, tokenTtl.toSeconds());
+  }
+
+  private static final class Session {
+    private final BankingUserDetails userDetails;
+    private final long expiresAt;
+
+    private Session(BankingUserDetails userDetails, long expiresAt) {
+      this.userDetails = userDetails;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.AccountBalanceDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded ranking of the largest balances. Twice the reported size is kept so that members
+ * whose balance drops can be replaced without going back to the database. Every balance turned
+ * away or evicted raises {@code outsiderCeiling}, an upper bound for accounts not tracked; while
+ * the last reported balance stays at or above it the ranking is exact, otherwise it should be
+ * refilled from the database.
+ *
+ * <p>Balances are applied just before their transaction commits, while the account row is still
+ * locked, so updates of one account arrive in commit order. Until a transaction completes its
+ * balances are newer than what storage returns. A refill reads storage without holding the
+ * ranking's lock, so such uncommitted balances, and updates arriving between
+ * {@link #startRefill} and {@link #finishRefill}, removals included, are reapplied on top of what
+ * was read. A transaction that fails after applying its balances leaves the ranking inexact
+ * until the next refill.
+ */
+final class TopBalances {
+  private final int size;
+  private final int capacity;
+  private final Map<Long, Long> balances = new HashMap<>();
+  private final TreeSet<Entry> ranking =
+      new TreeSet<>(
+          Comparator.comparingLong(Entry::balance).reversed().thenComparingLong(Entry::accountId));
+  private long outsiderCeiling = Long.MIN_VALUE;
+  private final Map<Long, Long> uncommitted = new HashMap<>();
+  private Map<Long, Long> updatesDuringRefill;
+  private boolean invalidatedDuringRefill;
+
+  TopBalances(int size) {
+    this.size = size;
+    this.capacity = size * 2;
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  synchronized void update(long accountId, long balance) {
+    if (updatesDuringRefill != null) {
+      updatesDuringRefill.put(accountId, balance);
+    }
+    apply(accountId, balance);
+  }
+
+  synchronized void remove(long accountId) {
+    if (updatesDuringRefill != null) {
+      updatesDuringRefill.put(accountId, null);
+    }
+    discard(accountId);
+  }
+
+  /** Applies a balance, or a removal if {@code balance} is null, of a committing transaction. */
+  synchronized void prepare(long accountId, Long balance) {
+    uncommitted.put(accountId, balance);
+    if (balance == null) {
+      remove(accountId);
+    } else {
+      update(accountId, balance);
+    }
+  }
+
+  /** Called once the transaction that prepared {@code balance} has completed. */
+  synchronized void complete(long accountId, Long balance, boolean committed) {
+    uncommitted.remove(accountId, balance);
+    if (!committed) {
+      outsiderCeiling = Long.MAX_VALUE;
+      if (updatesDuringRefill != null) {
+        invalidatedDuringRefill = true;
+      }
+    }
+  }
+
+  synchronized void startRefill() {
+    updatesDuringRefill = new HashMap<>(uncommitted);
+  }
+
+  synchronized void cancelRefill() {
+    updatesDuringRefill = null;
+    invalidatedDuringRefill = false;
+  }
+
+  /**
+   * Replaces the ranking with the largest balances, in descending order, read from storage after
+   * {@link #startRefill}.
+   */
+  synchronized void finishRefill(long[] accountIds, long[] accountBalances) {
+    balances.clear();
+    ranking.clear();
+    for (int i = 0; i < accountIds.length; i++) {
+      balances.put(accountIds[i], accountBalances[i]);
+      ranking.add(new Entry(accountIds[i], accountBalances[i]));
+    }
+    outsiderCeiling =
+        accountIds.length < capacity ? Long.MIN_VALUE : accountBalances[accountIds.length - 1];
+    if (updatesDuringRefill != null) {
+      updatesDuringRefill.forEach(
+          (accountId, balance) -> {
+            if (balance == null) {
+              discard(accountId);
+            } else {
+              apply(accountId, balance);
+            }
+          });
+      updatesDuringRefill = null;
+    }
+    if (invalidatedDuringRefill) {
+      outsiderCeiling = Long.MAX_VALUE;
+      invalidatedDuringRefill = false;
+    }
+  }
+
+  private void apply(long accountId, long balance) {
+    Long previous = balances.get(accountId);
+    if (previous != null) {
+      ranking.remove(new Entry(accountId, previous));
+    } else if (balances.size() >= capacity && balance <= ranking.last().balance()) {
+      outsiderCeiling = Math.max(outsiderCeiling, balance);
+      return;
+    }
+    balances.put(accountId, balance);
+    ranking.add(new Entry(accountId, balance));
+    if (balances.size() > capacity) {
+      Entry evicted = ranking.pollLast();
+      balances.remove(evicted.accountId());
+      outsiderCeiling = Math.max(outsiderCeiling, evicted.balance());
+    }
+  }
+
+  private void discard(long accountId) {
+    Long previous = balances.remove(accountId);
+    if (previous != null) {
+      ranking.remove(new Entry(accountId, previous));
+    }
+  }
+
+  synchronized boolean isExact() {
+    if (ranking.size() < size) {
+      return outsiderCeiling == Long.MIN_VALUE;
+    }
+    Iterator<Entry> entries = ranking.iterator();
+    Entry last = null;
+    for (int i = 0; i < size; i++) {
+      last = entries.next();
+    }
+    return last == null || last.balance() >= outsiderCeiling;
+  }
+
+  synchronized List<AccountBalanceDTO> top() {
+    List<AccountBalanceDTO> top = new ArrayList<>(size);
+    for (Entry entry : ranking) {
+      if (top.size() == size) {
+        break;
+      }
+      top.add(new AccountBalanceDTO(entry.accountId(), entry.balance()));
+    }
+    return top;
+  }
+
+  private record Entry(long accountId, long balance) {}
+}
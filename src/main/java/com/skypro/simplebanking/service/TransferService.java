@@ -1,6 +1,14 @@
 package com.skypro.simplebanking.service;
 
+import com.skypro.simplebanking.dto.BinaryFormat;
 import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.exception.BatchTooLargeException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -8,20 +16,87 @@ import org.springframework.web.bind.annotation.RequestBody;
 @Service
 public class TransferService {
   private final AccountService accountService;
+  private final int maxBatchSize;
 
-  public TransferService(AccountService accountService) {
+  public TransferService(
+      AccountService accountService,
+      @Value("${app.transfers.max-batch-size:100}") int maxBatchSize) {
     this.accountService = accountService;
+    this.maxBatchSize = maxBatchSize;
   }
 
   @Transactional
   public void transfer(long id, @RequestBody TransferRequest transferRequest) {
-    accountService.validateCurrency(
-        transferRequest.getFromAccountId(), transferRequest.getToAccountId());
-    accountService.withdrawFromAccount(
-        id, transferRequest.getFromAccountId(), transferRequest.getAmount());
-    accountService.depositToAccount(
+    transfer(
+        id,
+        transferRequest.getFromAccountId(),
         transferRequest.getToUserId(),
         transferRequest.getToAccountId(),
         transferRequest.getAmount());
   }
+
+  @Transactional
+  public void transfer(long id, long fromAccountId, long toUserId, long toAccountId, long amount) {
+    accountService.transferBetweenLocked(
+        accountService.lockAccounts(fromAccountId, toAccountId),
+        id,
+        fromAccountId,
+        toUserId,
+        toAccountId,
+        amount);
+  }
+
+  @Transactional
+  public void transferAll(long id, List<TransferRequest> transferRequests) {
+    checkBatchSize(transferRequests.size());
+    Map<Long, Account> locked =
+        accountService.lockAccounts(
+            transferRequests.stream()
+                .flatMapToLong(
+                    request -> LongStream.of(request.getFromAccountId(), request.getToAccountId()))
+                .toArray());
+    for (TransferRequest transferRequest : transferRequests) {
+      accountService.transferBetweenLocked(
+          locked,
+          id,
+          transferRequest.getFromAccountId(),
+          transferRequest.getToUserId(),
+          transferRequest.getToAccountId(),
+          transferRequest.getAmount());
+    }
+  }
+
+  /** Executes every fixed-layout transfer record remaining in the buffer in one transaction. */
+  @Transactional
+  public void transferAll(long id, ByteBuffer transferRecords) {
+    int records = transferRecords.remaining() / BinaryFormat.TRANSFER_RECORD_BYTES;
+    checkBatchSize(records);
+    long[] accountIds = new long[records * 2];
+    for (int i = 0; i < records; i++) {
+      int offset = transferRecords.position() + i * BinaryFormat.TRANSFER_RECORD_BYTES;
+      accountIds[2 * i] = transferRecords.getLong(offset);
+      accountIds[2 * i + 1] = transferRecords.getLong(offset + 2 * Long.BYTES);
+    }
+    Map<Long, Account> locked = accountService.lockAccounts(accountIds);
+    while (transferRecords.hasRemaining()) {
+      accountService.transferBetweenLocked(
+          locked,
+          id,
+          transferRecords.getLong(),
+          transferRecords.getLong(),
+          transferRecords.getLong(),
+          transferRecords.getLong());
+    }
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /** Every account of a batch stays locked until it commits, so batches are kept short. */
+  public void checkBatchSize(int records) {
+    if (records > maxBatchSize) {
+      throw new BatchTooLargeException("Batch exceeds " + maxBatchSize + " transfers");
+    }
+  }
 }
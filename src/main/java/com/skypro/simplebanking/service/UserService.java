@@ -1,6 +1,7 @@
 package com.skypro.simplebanking.service;
 
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.CoalescingStatsDTO;
 import com.skypro.simplebanking.dto.ListUserDTO;
 import com.skypro.simplebanking.dto.UserDTO;
 import com.skypro.simplebanking.entity.User;
@@ -14,21 +15,29 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class UserService implements UserDetailsService {
   private final UserRepository userRepository;
   private final AccountService accountService;
   private final PasswordEncoder passwordEncoder;
+  private final TransactionTemplate readOnlyTransaction;
+  private final SingleFlight<Long, UserDTO> userReads = new SingleFlight<>("user");
 
   public UserService(
       UserRepository userRepository,
       AccountService accountService,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      PlatformTransactionManager transactionManager) {
     this.userRepository = userRepository;
     this.accountService = accountService;
     this.passwordEncoder = passwordEncoder;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
   }
 
   @Override
@@ -53,12 +62,31 @@ public class UserService implements UserDetailsService {
     accountService.createDefaultAccounts(user);
     return UserDTO.from(user);
   }
-  @Transactional(readOnly = true)
+
+  /** Deletes the user with its accounts, which must carry no holds or scheduled transfers. */
+  @Transactional
+  public void deleteUser(long id) {
+    User user = userRepository.findById(id).orElseThrow();
+    accountService.deleteAccounts(user);
+    userRepository.delete(user);
+  }
+
   public UserDTO getUser(long id) {
-    return userRepository.findById(id).map(UserDTO::from).orElseThrow();
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return loadUser(id);
+    }
+    return userReads.execute(id, () -> readOnlyTransaction.execute(status -> loadUser(id)));
+  }
+
+  public CoalescingStatsDTO getReadCoalescingStats() {
+    return userReads.stats();
   }
   @Transactional(readOnly = true)
   public List<ListUserDTO> listUsers() {
     return userRepository.findAll().stream().map(ListUserDTO::from).collect(Collectors.toList());
   }
+
+  private UserDTO loadUser(long id) {
+    return userRepository.findById(id).map(UserDTO::from).orElseThrow();
+  }
 }
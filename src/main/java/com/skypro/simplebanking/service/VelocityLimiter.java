@@ -0,0 +1,367 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.OutgoingPayment;
+import com.skypro.simplebanking.exception.VelocityLimitExceededException;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.OutgoingPaymentRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Caps how much a user can move out per minute, hour and day in each currency. Usage is kept in
+ * memory as lock-free bucketed counters and checked before the payment's transaction begins; it
+ * is rebuilt on startup from the outgoing payments journal written by withdrawals, transfers and
+ * holds. Journal rows older than the longest window are pruned every {@code prune-interval}.
+ *
+ * <p>Usage is added first and rolled back if a limit is crossed, so concurrent payments can be
+ * rejected spuriously near the limit but never jointly exceed it.
+ *
+ * <p>At most {@code max-tracked-keys} payer and currency pairs are tracked. Beyond that a new
+ * payer takes the place of one found by a short second-chance scan, preferring pairs with no
+ * usage left, then pairs not used since the last scan. Evicting a pair that still has usage
+ * forgets it, which is logged; with {@code fail-closed} such payers are rejected instead.
+ */
+@Service
+public class VelocityLimiter {
+  private static final Logger log = LoggerFactory.getLogger(VelocityLimiter.class);
+  private static final String[] WINDOW_NAMES = {"minute", "hour", "day"};
+  private static final Duration LONGEST_WINDOW = Duration.ofDays(1);
+  private static final int EVICTION_SCAN = 16;
+  private static final long EVICTION_WARNING_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+  private final AccountRepository accountRepository;
+  private final OutgoingPaymentRepository outgoingPaymentRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final long[] limits;
+  private final int maxTrackedKeys;
+  private final boolean failClosed;
+  private final Duration pruneInterval;
+  private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+  private final Queue<Long> evictionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicLong lastEvictionWarning = new AtomicLong();
+  private final Map<Long, AccountCurrency> accountCurrencies = new ConcurrentHashMap<>();
+  private ScheduledExecutorService pruner;
+
+  public VelocityLimiter(
+      AccountRepository accountRepository,
+      OutgoingPaymentRepository outgoingPaymentRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.velocity.per-minute:1000000}") long perMinute,
+      @Value("${app.velocity.per-hour:10000000}") long perHour,
+      @Value("${app.velocity.per-day:50000000}") long perDay,
+      @Value("${app.velocity.max-tracked-keys:100000}") int maxTrackedKeys,
+      @Value("${app.velocity.fail-closed:false}") boolean failClosed,
+      @Value("${app.velocity.prune-interval:PT1H}") Duration pruneInterval) {
+    this.accountRepository = accountRepository;
+    this.outgoingPaymentRepository = outgoingPaymentRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.limits = new long[] {perMinute, perHour, perDay};
+    this.maxTrackedKeys = maxTrackedKeys;
+    this.failClosed = failClosed;
+    this.pruneInterval = pruneInterval;
+  }
+
+  /**
+   * Replays the journal newest first, so if more payers than {@code max-tracked-keys} paid
+   * within the longest window, the ones skipped are those whose usage is closest to expiring.
+   */
+  @PostConstruct
+  public void rebuild() {
+    long now = System.currentTimeMillis();
+    Instant cutoff = Instant.ofEpochMilli(now).minus(LONGEST_WINDOW);
+    long skipped =
+        transactionTemplate.execute(
+            status -> {
+              outgoingPaymentRepository.deleteAllCreatedBefore(cutoff);
+              long untracked = 0;
+              for (OutgoingPayment payment :
+                  outgoingPaymentRepository.findAllByCreatedAtAfterOrderByCreatedAtDesc(cutoff)) {
+                Counters userCounters =
+                    countersFor(payment.getUserId(), payment.getAccountCurrency(), false);
+                if (userCounters == null) {
+                  untracked++;
+                } else {
+                  userCounters.add(payment.getCreatedAt().toEpochMilli(), payment.getAmount(), now);
+                }
+              }
+              return untracked;
+            });
+    if (skipped > 0) {
+      log.warn("{} journaled payments not replayed: max-tracked-keys reached", skipped);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void startPruning() {
+    pruner =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "velocity-journal-pruner");
+              thread.setDaemon(true);
+              return thread;
+            });
+    pruner.scheduleWithFixedDelay(
+        this::prune, pruneInterval.toMillis(), pruneInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public synchronized void stopPruning() {
+    if (pruner != null) {
+      pruner.shutdownNow();
+    }
+  }
+
+  /** Journals a payment counted by {@link #acquire}; call it inside the payment's transaction. */
+  public void journal(Account account, long amount) {
+    OutgoingPayment payment = new OutgoingPayment();
+    payment.setUserId(account.getUser().getId());
+    payment.setAccountCurrency(account.getAccountCurrency());
+    payment.setAmount(amount);
+    payment.setCreatedAt(Instant.now());
+    outgoingPaymentRepository.save(payment);
+  }
+
+  /** Drops a deleted user's journal and, once the deletion commits, its usage. */
+  public void forget(long userId) {
+    outgoingPaymentRepository.deleteAllByUserId(userId);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            for (AccountCurrency currency : AccountCurrency.values()) {
+              counters.remove(key(userId, currency));
+            }
+          }
+        });
+  }
+
+  public Permit acquire(long userId, long accountId, long amount) {
+    if (amount <= 0) {
+      return Permit.NONE;
+    }
+    AccountCurrency currency = currencyOf(accountId);
+    if (currency == null) {
+      return Permit.NONE;
+    }
+    Counters userCounters = countersFor(userId, currency, true);
+    if (userCounters == null) {
+      throw new VelocityLimitExceededException("Too many payers to track, try again later");
+    }
+    long now = System.currentTimeMillis();
+    userCounters.add(now, amount, now);
+    for (int i = 0; i < limits.length; i++) {
+      if (userCounters.windows[i].sum(now) > limits[i]) {
+        userCounters.add(now, -amount, now);
+        throw new VelocityLimitExceededException(
+            "Limit per " + WINDOW_NAMES[i] + " exceeded for " + currency.name());
+      }
+    }
+    return new Permit(userCounters, now, amount);
+  }
+
+  public <T> T withinLimits(long userId, long accountId, long amount, Supplier<T> payment) {
+    Permit permit = acquire(userId, accountId, amount);
+    try {
+      return payment.get();
+    } catch (RuntimeException e) {
+      permit.release();
+      throw e;
+    }
+  }
+
+  public void withinLimits(long userId, long accountId, long amount, Runnable payment) {
+    withinLimits(
+        userId,
+        accountId,
+        amount,
+        () -> {
+          payment.run();
+          return null;
+        });
+  }
+
+  /** Acquires usage for every payment of a batch, releasing all of it if any step fails. */
+  public void withinLimits(long userId, long[] accountIds, long[] amounts, Runnable payments) {
+    List<Permit> permits = new ArrayList<>(accountIds.length);
+    try {
+      for (int i = 0; i < accountIds.length; i++) {
+        permits.add(acquire(userId, accountIds[i], amounts[i]));
+      }
+      payments.run();
+    } catch (RuntimeException e) {
+      permits.forEach(Permit::release);
+      throw e;
+    }
+  }
+
+  private void prune() {
+    try {
+      Instant cutoff = Instant.now().minus(LONGEST_WINDOW);
+      transactionTemplate.executeWithoutResult(
+          status -> outgoingPaymentRepository.deleteAllCreatedBefore(cutoff));
+    } catch (RuntimeException e) {
+      log.error("Outgoing payments journal pruning failed", e);
+    }
+  }
+
+  private AccountCurrency currencyOf(long accountId) {
+    AccountCurrency currency = accountCurrencies.get(accountId);
+    if (currency != null) {
+      return currency;
+    }
+    currency = accountRepository.findCurrencyById(accountId).orElse(null);
+    if (currency != null) {
+      if (accountCurrencies.size() >= maxTrackedKeys) {
+        Iterator<Long> victims = accountCurrencies.keySet().iterator();
+        if (victims.hasNext()) {
+          victims.next();
+          victims.remove();
+        }
+      }
+      accountCurrencies.put(accountId, currency);
+    }
+    return currency;
+  }
+
+  /**
+   * Returns {@code null} when {@code max-tracked-keys} pairs are tracked and none can be evicted,
+   * or {@code mayEvict} is false.
+   */
+  private Counters countersFor(long userId, AccountCurrency currency, boolean mayEvict) {
+    long key = key(userId, currency);
+    Counters existing = counters.get(key);
+    if (existing != null) {
+      if (!existing.referenced) {
+        existing.referenced = true;
+      }
+      return existing;
+    }
+    if (counters.size() >= maxTrackedKeys && !(mayEvict && evictOne())) {
+      return null;
+    }
+    Counters created = new Counters();
+    existing = counters.putIfAbsent(key, created);
+    if (existing != null) {
+      return existing;
+    }
+    evictionOrder.add(key);
+    return created;
+  }
+
+  private boolean evictOne() {
+    long now = System.currentTimeMillis();
+    Long fallback = null;
+    for (int i = 0; i < EVICTION_SCAN; i++) {
+      Long key = evictionOrder.poll();
+      if (key == null) {
+        break;
+      }
+      Counters candidate = counters.get(key);
+      if (candidate == null) {
+        continue;
+      }
+      if (candidate.isIdle(now) || (!failClosed && !candidate.referenced)) {
+        if (fallback != null) {
+          evictionOrder.add(fallback);
+        }
+        evict(key, candidate, now);
+        return true;
+      }
+      candidate.referenced = false;
+      if (fallback == null && !failClosed) {
+        fallback = key;
+      } else {
+        evictionOrder.add(key);
+      }
+    }
+    if (fallback == null) {
+      return false;
+    }
+    Counters candidate = counters.get(fallback);
+    if (candidate != null) {
+      evict(fallback, candidate, now);
+    }
+    return true;
+  }
+
+  private void evict(long key, Counters candidate, long now) {
+    counters.remove(key, candidate);
+    long lastWarning = lastEvictionWarning.get();
+    if (!candidate.isIdle(now)
+        && now - lastWarning >= EVICTION_WARNING_INTERVAL_MILLIS
+        && lastEvictionWarning.compareAndSet(lastWarning, now)) {
+      log.warn(
+          "Forgot the usage of an active payer: max-tracked-keys={} is too small for the load",
+          maxTrackedKeys);
+    }
+  }
+
+  private static long key(long userId, AccountCurrency currency) {
+    return userId * AccountCurrency.values().length + currency.ordinal();
+  }
+
+  private static final class Counters {
+    private volatile boolean referenced;
+    private final SlidingWindowCounter[] windows = {
+      new SlidingWindowCounter(Duration.ofSeconds(10).toMillis(), 6),
+      new SlidingWindowCounter(Duration.ofMinutes(5).toMillis(), 12),
+      new SlidingWindowCounter(Duration.ofHours(1).toMillis(), 24)
+    };
+
+    private void add(long timestampMillis, long delta, long nowMillis) {
+      for (SlidingWindowCounter window : windows) {
+        window.add(timestampMillis, delta, nowMillis);
+      }
+    }
+
+    private boolean isIdle(long nowMillis) {
+      return windows[windows.length - 1].sum(nowMillis) == 0;
+    }
+  }
+
+  public static final class Permit {
+    private static final Permit NONE = new Permit(null, 0, 0);
+
+    private final Counters counters;
+    private final long acquiredAt;
+    private final long amount;
+
+    private Permit(Counters counters, long acquiredAt, long amount) {
+      this.counters = counters;
+      this.acquiredAt = acquiredAt;
+      this.amount = amount;
+    }
+
+    public void release() {
+      if (counters != null) {
+        counters.add(acquiredAt, -amount, System.currentTimeMillis());
+      }
+    }
+  }
+}
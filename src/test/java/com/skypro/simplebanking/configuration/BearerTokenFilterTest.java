@@ -0,0 +1,87 @@
+package com.skypro.simplebanking.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.service.TokenService;
+import com.skypro.simplebanking.service.UserService;
+import java.time.Duration;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BearerTokenFilterTest {
+  private static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder(4);
+  private static final String PASSWORD_HASH = PASSWORD_ENCODER.encode("secret");
+
+  private final TokenService tokenService =
+      new TokenService(
+          new UserService(null, null, PASSWORD_ENCODER, null) {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+              return new BankingUserDetails(7, username, PASSWORD_HASH, false);
+            }
+          },
+          PASSWORD_ENCODER,
+          Duration.ofHours(1));
+  private final BearerTokenFilter filter = new BearerTokenFilter(tokenService);
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void authenticatesRequestCarryingIssuedToken() throws Exception {
+    String token = tokenService.login("alice", "secret").getToken();
+    MockFilterChain chain = filter("Bearer " + token);
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertNotNull(authentication);
+    assertEquals(7L, ((BankingUserDetails) authentication.getPrincipal()).getId());
+    assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+    assertNotNull(chain.getRequest());
+  }
+
+  @Test
+  void leavesRequestAnonymousForUnknownOrRevokedToken() throws Exception {
+    String token = tokenService.login("alice", "secret").getToken();
+    tokenService.revoke(token);
+
+    MockFilterChain revoked = filter("Bearer " + token);
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    assertNotNull(revoked.getRequest());
+
+    MockFilterChain unknown = filter("Bearer forged");
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    assertNotNull(unknown.getRequest());
+  }
+
+  @Test
+  void ignoresOtherAuthorizationSchemes() throws Exception {
+    MockFilterChain chain = filter("Basic YWxpY2U6c2VjcmV0");
+
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    assertNotNull(chain.getRequest());
+    assertTrue(BearerTokenFilter.bearerToken((HttpServletRequest) chain.getRequest()).isEmpty());
+  }
+
+  private MockFilterChain filter(String authorization) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/account/1");
+    request.addHeader("Authorization", authorization);
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+    return chain;
+  }
+}
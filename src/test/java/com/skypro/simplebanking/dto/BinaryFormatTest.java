@@ -0,0 +1,133 @@
+package com.skypro.simplebanking.dto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.BatchTooLargeException;
+import com.skypro.simplebanking.exception.MalformedPayloadException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class BinaryFormatTest {
+  @Test
+  void encodesVersionOneAccountWithoutTheAvailableAmount() {
+    AccountDTO account = new AccountDTO(0x0102030405060708L, -1, 42, AccountCurrency.RUB);
+
+    byte[] encoded = BinaryFormat.encodeAccount(account, 1);
+
+    assertEquals(BinaryFormat.ACCOUNT_RECORD_V1_BYTES, encoded.length);
+    assertArrayEquals(
+        new byte[] {
+          1, 2, 3, 4, 5, 6, 7, 8,
+          -1, -1, -1, -1, -1, -1, -1, -1,
+          2
+        },
+        encoded);
+  }
+
+  @Test
+  void encodesVersionTwoAccountAsBigEndianFixedLayout() {
+    AccountDTO account = new AccountDTO(0x0102030405060708L, -1, 42, AccountCurrency.RUB);
+
+    byte[] encoded = BinaryFormat.encodeAccount(account, 2);
+
+    assertEquals(BinaryFormat.ACCOUNT_RECORD_V2_BYTES, encoded.length);
+    assertArrayEquals(
+        new byte[] {
+          1, 2, 3, 4, 5, 6, 7, 8,
+          -1, -1, -1, -1, -1, -1, -1, -1,
+          0, 0, 0, 0, 0, 0, 0, 42,
+          2
+        },
+        encoded);
+  }
+
+  @Test
+  void accountVersionDefaultsToOneAndRejectsUnknownVersions() {
+    MediaType unknown = MediaType.parseMediaType(BinaryFormat.MEDIA_TYPE_VALUE + ";v=3");
+
+    assertEquals(1, BinaryFormat.accountVersion(BinaryFormat.MEDIA_TYPE));
+    assertEquals(2, BinaryFormat.accountVersion(BinaryFormat.MEDIA_TYPE_V2));
+    assertEquals(0, BinaryFormat.accountVersion(unknown));
+  }
+
+  @Test
+  void currencyOrdinalsAreStable() {
+    assertEquals(0, AccountCurrency.USD.ordinal());
+    assertEquals(1, AccountCurrency.EUR.ordinal());
+    assertEquals(2, AccountCurrency.RUB.ordinal());
+  }
+
+  @Test
+  void readsTransferRecordsInOrder() throws IOException {
+    byte[] body =
+        ByteBuffer.allocate(2 * BinaryFormat.TRANSFER_RECORD_BYTES)
+            .putLong(1)
+            .putLong(2)
+            .putLong(3)
+            .putLong(400)
+            .putLong(5)
+            .putLong(6)
+            .putLong(7)
+            .putLong(800)
+            .array();
+
+    ByteBuffer records = read(body, body.length, 2, false);
+
+    long[] fields = new long[8];
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = records.getLong();
+    }
+    assertArrayEquals(new long[] {1, 2, 3, 400, 5, 6, 7, 800}, fields);
+  }
+
+  @Test
+  void rejectsTruncatedEmptyOrMultipleRecordsWhereOneIsExpected() throws IOException {
+    byte[] one = new byte[BinaryFormat.TRANSFER_RECORD_BYTES];
+    byte[] two = new byte[2 * BinaryFormat.TRANSFER_RECORD_BYTES];
+
+    assertEquals(1, read(one, one.length, 2, true).remaining() / one.length);
+    assertEquals(2, read(two, two.length, 2, false).remaining() / one.length);
+    assertThrows(MalformedPayloadException.class, () -> read(two, two.length, 2, true));
+    assertThrows(MalformedPayloadException.class, () -> read(new byte[0], 0, 2, false));
+    assertThrows(
+        MalformedPayloadException.class, () -> read(new byte[one.length + 1], -1, 2, false));
+  }
+
+  @Test
+  void rejectsBatchesLargerThanTheBufferWhetherDeclaredOrNot() throws IOException {
+    byte[] three = new byte[3 * BinaryFormat.TRANSFER_RECORD_BYTES];
+
+    assertThrows(BatchTooLargeException.class, () -> read(three, three.length, 2, false));
+    assertThrows(BatchTooLargeException.class, () -> read(three, -1, 2, false));
+    assertEquals(3, read(three, -1, 3, false).remaining() / BinaryFormat.TRANSFER_RECORD_BYTES);
+  }
+
+  @Test
+  void reusesTheBufferAcrossBodies() throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(2 * BinaryFormat.TRANSFER_RECORD_BYTES);
+    byte[] two = new byte[2 * BinaryFormat.TRANSFER_RECORD_BYTES];
+    byte[] one = ByteBuffer.allocate(BinaryFormat.TRANSFER_RECORD_BYTES).putLong(9).array();
+
+    BinaryFormat.readTransferRecords(new ByteArrayInputStream(two), -1, buffer, false);
+    ByteBuffer records =
+        BinaryFormat.readTransferRecords(new ByteArrayInputStream(one), -1, buffer, true);
+
+    assertEquals(BinaryFormat.TRANSFER_RECORD_BYTES, records.remaining());
+    assertEquals(9, records.getLong());
+  }
+
+  private static ByteBuffer read(byte[] body, long contentLength, int capacity, boolean single)
+      throws IOException {
+    return BinaryFormat.readTransferRecords(
+        new ByteArrayInputStream(body),
+        contentLength,
+        ByteBuffer.allocate(capacity * BinaryFormat.TRANSFER_RECORD_BYTES),
+        single);
+  }
+}
@@ -0,0 +1,66 @@
+package com.skypro.simplebanking.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class SchedulePeriodTest {
+  private static final Instant JAN_31 = at("2024-01-31");
+
+  @Test
+  void monthlyExecutionsStayAnchoredToTheFirstDay() {
+    assertEquals(JAN_31, SchedulePeriod.MONTHLY.execution(JAN_31, 0));
+    assertEquals(at("2024-02-29"), SchedulePeriod.MONTHLY.execution(JAN_31, 1));
+    assertEquals(at("2024-03-31"), SchedulePeriod.MONTHLY.execution(JAN_31, 2));
+    assertEquals(at("2024-04-30"), SchedulePeriod.MONTHLY.execution(JAN_31, 3));
+    assertEquals(at("2025-02-28"), SchedulePeriod.MONTHLY.execution(JAN_31, 13));
+  }
+
+  @Test
+  void dailyAndWeeklyExecutionsAreWholePeriodsApart() {
+    assertEquals(at("2024-02-01"), SchedulePeriod.DAILY.execution(JAN_31, 1));
+    assertEquals(at("2024-03-01"), SchedulePeriod.DAILY.execution(JAN_31, 30));
+    assertEquals(at("2024-02-14"), SchedulePeriod.WEEKLY.execution(JAN_31, 2));
+  }
+
+  @Test
+  void oneOffTransferHasOnlyTheFirstExecution() {
+    assertEquals(JAN_31, SchedulePeriod.ONCE.execution(JAN_31, 0));
+    assertNull(SchedulePeriod.ONCE.execution(JAN_31, 1));
+  }
+
+  @Test
+  void advancePastSkipsMissedPeriodsWithoutLosingTheAnchor() {
+    ScheduledTransfer order = order(SchedulePeriod.MONTHLY);
+
+    assertTrue(order.advancePast(JAN_31));
+    assertEquals(at("2024-02-29"), order.getNextExecutionAt());
+    assertTrue(order.advancePast(at("2024-05-15")));
+    assertEquals(at("2024-05-31"), order.getNextExecutionAt());
+    assertEquals(4, order.getExecutionIndex());
+  }
+
+  @Test
+  void advancePastEndsOneOffTransfer() {
+    ScheduledTransfer order = order(SchedulePeriod.ONCE);
+
+    assertFalse(order.advancePast(JAN_31));
+    assertNull(order.getNextExecutionAt());
+  }
+
+  private static ScheduledTransfer order(SchedulePeriod period) {
+    ScheduledTransfer order = new ScheduledTransfer();
+    order.setPeriod(period);
+    order.setFirstExecutionAt(JAN_31);
+    order.setNextExecutionAt(JAN_31);
+    return order;
+  }
+
+  private static Instant at(String date) {
+    return Instant.parse(date + "T00:00:00Z");
+  }
+}
@@ -0,0 +1,167 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.dto.AccountBalanceDTO;
+import com.skypro.simplebanking.dto.CurrencyTotalsDTO;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.CurrencySummary;
+import com.skypro.simplebanking.load.BankingClient.Customer;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.BalanceChangeRepository;
+import com.skypro.simplebanking.repository.CurrencySummaryRepository;
+import com.skypro.simplebanking.service.AccountTotals;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Races deposits and transfers against frequent checkpoints and ranking refills, then checks
+ * that the in-memory totals, the checkpointed summaries plus the remaining journal, and the top
+ * balances all agree with the accounts table. Tune with {@code -Dload.threads},
+ * {@code -Dload.users} and {@code -Dload.totals-duration}.
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"app.totals.checkpoint-interval=PT0.1S", "app.totals.top-n=5"})
+class AccountTotalsLoadTest {
+  private static final long MAX_AMOUNT = 1_000;
+
+  @LocalServerPort private int port;
+
+  @Value("${app.security.admin-token}")
+  private String adminToken;
+
+  @Autowired private AccountTotals accountTotals;
+  @Autowired private AccountRepository accountRepository;
+  @Autowired private BalanceChangeRepository balanceChangeRepository;
+  @Autowired private CurrencySummaryRepository currencySummaryRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private ObjectMapper objectMapper;
+
+  /** Own database, so that no other cached context's checkpoints touch the journal. */
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws SQLException {
+    String url =
+        LoadTestDatabase.createDatabase("totals_" + UUID.randomUUID().toString().replace("-", ""));
+    registry.add("spring.datasource.url", () -> url);
+    registry.add("spring.datasource.username", LoadTestDatabase::username);
+    registry.add("spring.datasource.password", LoadTestDatabase::password);
+  }
+
+  @Test
+  void totalsMatchTheAccountsTableAfterConcurrentChanges() throws Exception {
+    int threads = Integer.getInteger("load.threads", 16);
+    int users = Integer.getInteger("load.users", 50);
+    Duration duration = Duration.parse(System.getProperty("load.totals-duration", "PT10S"));
+    BankingClient client = new BankingClient(port, adminToken, objectMapper);
+    String runId = UUID.randomUUID().toString().substring(0, 8);
+    List<Customer> customers = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      customers.add(client.createCustomer("totals-" + runId + "-" + i));
+    }
+
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++) {
+      workers.execute(
+          () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+              Customer customer = customers.get(random.nextInt(users));
+              long accountId = customer.accountIds.get(AccountCurrency.USD);
+              try {
+                if (random.nextBoolean()) {
+                  client.post(
+                      customer,
+                      "/account/deposit/" + accountId,
+                      "{\"amount\":" + random.nextLong(MAX_AMOUNT) + "}");
+                } else {
+                  Customer recipient = customers.get(random.nextInt(users));
+                  client.post(
+                      customer,
+                      "/transfer",
+                      "{\"fromAccountId\":"
+                          + accountId
+                          + ",\"toUserId\":"
+                          + recipient.id
+                          + ",\"toAccountId\":"
+                          + recipient.accountIds.get(AccountCurrency.USD)
+                          + ",\"amount\":"
+                          + random.nextLong(MAX_AMOUNT)
+                          + "}");
+                }
+              } catch (IOException | InterruptedException e) {
+                return;
+              }
+            }
+          });
+    }
+    workers.shutdown();
+    assertTrue(workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS));
+    Thread.sleep(1_000);
+
+    TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+    snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    snapshot.executeWithoutResult(
+        status -> {
+          for (AccountRepository.CurrencyTotals actual : accountRepository.summarizeByCurrency()) {
+            CurrencySummary summary =
+                currencySummaryRepository.findById(actual.getCurrency()).orElseThrow();
+            long journaledAmount = 0;
+            long journaledCount = 0;
+            for (AccountRepository.CurrencyTotals changes :
+                balanceChangeRepository.summarizeByCurrency()) {
+              if (changes.getCurrency() == actual.getCurrency()) {
+                journaledAmount = changes.getTotalAmount();
+                journaledCount = changes.getAccountCount();
+              }
+            }
+            assertEquals(actual.getTotalAmount(), summary.getTotalAmount() + journaledAmount);
+            assertEquals(actual.getAccountCount(), summary.getAccountCount() + journaledCount);
+          }
+        });
+
+    CurrencyTotalsDTO usd =
+        accountTotals.getTotals().stream()
+            .filter(totals -> totals.getCurrency() == AccountCurrency.USD)
+            .findFirst()
+            .orElseThrow();
+    List<Account> largest =
+        accountRepository.findByAccountCurrencyOrderByAmountDesc(
+            AccountCurrency.USD, PageRequest.of(0, usd.getTopBalances().size()));
+    assertEquals(
+        largest.stream().map(Account::getAmount).toList(),
+        usd.getTopBalances().stream().map(AccountBalanceDTO::getAmount).toList(),
+        "Top balances differ from the accounts table");
+    long usdTotal =
+        accountRepository.findAll().stream()
+            .filter(account -> account.getAccountCurrency() == AccountCurrency.USD)
+            .mapToLong(Account::getAmount)
+            .sum();
+    assertEquals(usdTotal, usd.getTotalAmount(), "In-memory total differs from the accounts table");
+  }
+}
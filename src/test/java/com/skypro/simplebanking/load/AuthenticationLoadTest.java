@@ -0,0 +1,116 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.load.BankingClient.Customer;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Compares {@code GET /account/{id}} throughput under HTTP Basic, which loads the user and
+ * verifies its BCrypt hash on every request, with bearer tokens resolved in memory. Tune with
+ * {@code -Dload.threads}, {@code -Dload.users} and {@code -Dload.auth-duration}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthenticationLoadTest {
+  @LocalServerPort private int port;
+
+  @Value("${app.security.admin-token}")
+  private String adminToken;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) {
+    LoadTestDatabase.register(registry);
+  }
+
+  @Test
+  void bearerTokensOutperformBasicOnAccountReads() throws Exception {
+    int threads = Integer.getInteger("load.threads", 16);
+    int users = Integer.getInteger("load.users", 50);
+    Duration duration = Duration.parse(System.getProperty("load.auth-duration", "PT10S"));
+    BankingClient client = new BankingClient(port, adminToken, objectMapper);
+    String runId = UUID.randomUUID().toString().substring(0, 8);
+    List<Customer> customers = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      customers.add(client.createCustomer("auth-" + runId + "-" + i));
+    }
+
+    Duration warmUp = duration.dividedBy(5);
+    measure(client, customers, Customer::basicAuthorized, threads, warmUp);
+    measure(client, customers, Customer::authorized, threads, warmUp);
+    EndpointStats basic = measure(client, customers, Customer::basicAuthorized, threads, duration);
+    EndpointStats bearer = measure(client, customers, Customer::authorized, threads, duration);
+
+    double seconds = duration.toMillis() / 1000.0;
+    EndpointStats.printHeader();
+    basic.print("basic", seconds);
+    bearer.print("bearer", seconds);
+    System.out.printf(
+        "bearer/basic throughput: %.1fx%n", bearer.throughput(seconds) / basic.throughput(seconds));
+
+    assertEquals(0, basic.errors.sum() + basic.rejected.sum(), "Basic requests failed");
+    assertEquals(0, bearer.errors.sum() + bearer.rejected.sum(), "Bearer requests failed");
+    assertTrue(
+        bearer.throughput(seconds) > basic.throughput(seconds),
+        "Bearer tokens should be faster than HTTP Basic");
+  }
+
+  private static EndpointStats measure(
+      BankingClient client,
+      List<Customer> customers,
+      BiFunction<Customer, HttpRequest.Builder, HttpRequest.Builder> authentication,
+      int threads,
+      Duration duration)
+      throws InterruptedException {
+    EndpointStats stats = new EndpointStats();
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++) {
+      workers.execute(
+          () -> {
+            while (System.nanoTime() < deadline) {
+              Customer customer =
+                  customers.get(ThreadLocalRandom.current().nextInt(customers.size()));
+              String path = "/account/" + customer.accountIds.get(AccountCurrency.RUB);
+              long started = System.nanoTime();
+              int status;
+              try {
+                status =
+                    client
+                        .send(authentication.apply(customer, client.request(path)).GET())
+                        .statusCode();
+              } catch (IOException | InterruptedException e) {
+                status = -1;
+              }
+              stats.record(status, System.nanoTime() - started);
+            }
+          });
+    }
+    workers.shutdown();
+    assertTrue(workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS));
+    return stats;
+  }
+}
@@ -0,0 +1,116 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Talks to the banking API of an application listening on a local port. */
+class BankingClient {
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final int port;
+  private final String adminToken;
+  private final ObjectMapper objectMapper;
+
+  BankingClient(int port, String adminToken, ObjectMapper objectMapper) {
+    this.port = port;
+    this.adminToken = adminToken;
+    this.objectMapper = objectMapper;
+  }
+
+  /** Creates a user whose password equals its username and logs it in. */
+  Customer createCustomer(String username) throws IOException, InterruptedException {
+    HttpResponse<String> created = createUser(username);
+    assertEquals(200, created.statusCode(), created.body());
+    JsonNode user = objectMapper.readTree(created.body());
+    Map<AccountCurrency, Long> accountIds = new EnumMap<>(AccountCurrency.class);
+    for (JsonNode account : user.get("accounts")) {
+      accountIds.put(
+          AccountCurrency.valueOf(account.get("currency").asText()), account.get("id").asLong());
+    }
+    HttpResponse<String> login =
+        send(
+            request("/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials(username))));
+    assertEquals(200, login.statusCode(), login.body());
+    String token = objectMapper.readTree(login.body()).get("token").asText();
+    return new Customer(user.get("id").asLong(), username, token, accountIds);
+  }
+
+  HttpResponse<String> createUser(String username) throws IOException, InterruptedException {
+    return send(
+        request("/user/")
+            .header("X-SECURITY-ADMIN-KEY", adminToken)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(credentials(username))));
+  }
+
+  HttpResponse<String> get(Customer customer, String path)
+      throws IOException, InterruptedException {
+    return send(customer.authorized(request(path)).GET());
+  }
+
+  HttpResponse<String> post(Customer customer, String path, String body)
+      throws IOException, InterruptedException {
+    return send(
+        customer
+            .authorized(request(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)));
+  }
+
+  HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+  }
+
+  HttpResponse<String> send(HttpRequest.Builder request)
+      throws IOException, InterruptedException {
+    return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  JsonNode json(HttpResponse<String> response) throws IOException {
+    return objectMapper.readTree(response.body());
+  }
+
+  private static String credentials(String username) {
+    return "{\"username\":\"" + username + "\",\"password\":\"" + username + "\"}";
+  }
+
+  static final class Customer {
+    final long id;
+    final String username;
+    final String token;
+    final Map<AccountCurrency, Long> accountIds;
+
+    private Customer(
+        long id, String username, String token, Map<AccountCurrency, Long> accountIds) {
+      this.id = id;
+      this.username = username;
+      this.token = token;
+      this.accountIds = accountIds;
+    }
+
+    HttpRequest.Builder authorized(HttpRequest.Builder request) {
+      return request.header("Authorization", "Bearer " + token);
+    }
+
+    HttpRequest.Builder basicAuthorized(HttpRequest.Builder request) {
+      String credentials = username + ":" + username;
+      return request.header(
+          "Authorization",
+          "Basic "
+              + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.load.BankingClient.Customer;
+import com.skypro.simplebanking.load.TrafficMix.Operation;
+import com.skypro.simplebanking.repository.AccountRepository;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Drives a configurable mix of banking traffic against the application booted on a throwaway
+ * PostgreSQL container, then checks that money was neither created nor lost.
+ * Run with {@code mvn test -Pload-test}; tune with {@code -Dload.threads}, {@code
+ * -Dload.duration}, {@code -Dload.users}, {@code -Dload.zipf-theta} and {@code -Dload.mix}.
+ * Holds and captures all target one hot account, so {@code -Dload.mix=hold=1,capture=1}
+ * measures hold-and-capture throughput under maximum row contention.
+ * {@link ProfilingOverheadLoadTest} measures the request profiler's overhead.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BankingLoadTest {
+  private static final long SEED_BALANCE = 10_000;
+  private static final int MAX_AMOUNT = 100;
+  private static final long HOT_ACCOUNT_BALANCE = 1_000_000_000;
+
+  @LocalServerPort private int port;
+
+  @Value("${app.security.admin-token}")
+  private String adminToken;
+
+  @Autowired private AccountRepository accountRepository;
+  @Autowired private ObjectMapper objectMapper;
+
+  private BankingClient client;
+  private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+  private final Map<AccountCurrency, LongAdder> expectedDelta =
+      new EnumMap<>(AccountCurrency.class);
+  private final Queue<long[]> openHolds = new ConcurrentLinkedQueue<>();
+  private final AtomicLong usernameSequence = new AtomicLong();
+  private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) {
+    LoadTestDatabase.register(registry);
+  }
+
+  @Test
+  void trafficMixConservesMoney() throws Exception {
+    int threads = Integer.getInteger("load.threads", 16);
+    Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    int users = Integer.getInteger("load.users", 200);
+    double zipfTheta = Double.parseDouble(System.getProperty("load.zipf-theta", "0.99"));
+    TrafficMix mix =
+        TrafficMix.parse(
+            System.getProperty(
+                "load.mix",
+                "create=1,deposit=15,withdraw=15,transfer=40,account=25,list=4,hold=5,capture=5"));
+
+    client = new BankingClient(port, adminToken, objectMapper);
+    for (Operation operation : Operation.values()) {
+      stats.put(operation, new EndpointStats());
+    }
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      expectedDelta.put(currency, new LongAdder());
+    }
+
+    List<Customer> customers = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      Customer customer = client.createCustomer(nextUsername());
+      for (long accountId : customer.accountIds.values()) {
+        client.post(customer, "/account/deposit/" + accountId, "{\"amount\":" + SEED_BALANCE + "}");
+      }
+      customers.add(customer);
+    }
+    Customer hotCustomer = customers.get(0);
+    client.post(
+        hotCustomer,
+        "/account/deposit/" + hotCustomer.accountIds.get(AccountCurrency.USD),
+        "{\"amount\":" + HOT_ACCOUNT_BALANCE + "}");
+    Map<AccountCurrency, Long> before = totals();
+
+    ZipfianGenerator hotCustomers = new ZipfianGenerator(customers.size(), zipfTheta);
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++) {
+      workers.execute(
+          () -> {
+            while (System.nanoTime() < deadline) {
+              Operation operation = mix.next();
+              long started = System.nanoTime();
+              int status;
+              try {
+                status = execute(operation, customers, hotCustomers);
+              } catch (IOException | InterruptedException e) {
+                status = -1;
+              }
+              stats.get(operation).record(status, System.nanoTime() - started);
+            }
+          });
+    }
+    workers.shutdown();
+    assertTrue(workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS));
+
+    report(duration);
+    Map<AccountCurrency, Long> after = totals();
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      assertEquals(
+          before.get(currency) + expectedDelta.get(currency).sum(),
+          after.get(currency),
+          "Money conservation violated for " + currency);
+    }
+    long errors = stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+    assertEquals(0, errors, "Requests failed with a server or transport error");
+  }
+
+  private int execute(Operation operation, List<Customer> customers, ZipfianGenerator hot)
+      throws IOException, InterruptedException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    AccountCurrency currency =
+        AccountCurrency.values()[random.nextInt(AccountCurrency.values().length)];
+    long amount = random.nextLong(1, MAX_AMOUNT + 1);
+    Customer customer = customers.get(hot.next());
+    long accountId = customer.accountIds.get(currency);
+    switch (operation) {
+      case CREATE_USER -> {
+        HttpResponse<String> response = client.createUser(nextUsername());
+        if (EndpointStats.isSuccess(response.statusCode())) {
+          expectedDelta.values().forEach(LongAdder::increment);
+        }
+        return response.statusCode();
+      }
+      case DEPOSIT -> {
+        int status =
+            client.post(customer, "/account/deposit/" + accountId, "{\"amount\":" + amount + "}")
+                .statusCode();
+        if (EndpointStats.isSuccess(status)) {
+          expectedDelta.get(currency).add(amount);
+        }
+        return status;
+      }
+      case WITHDRAW -> {
+        int status =
+            client.post(customer, "/account/withdraw/" + accountId, "{\"amount\":" + amount + "}")
+                .statusCode();
+        if (EndpointStats.isSuccess(status)) {
+          expectedDelta.get(currency).add(-amount);
+        }
+        return status;
+      }
+      case TRANSFER -> {
+        Customer recipient = customers.get(hot.next());
+        String body =
+            "{\"fromAccountId\":"
+                + accountId
+                + ",\"toUserId\":"
+                + recipient.id
+                + ",\"toAccountId\":"
+                + recipient.accountIds.get(currency)
+                + ",\"amount\":"
+                + amount
+                + "}";
+        return client.post(customer, "/transfer", body).statusCode();
+      }
+      case GET_ACCOUNT -> {
+        return client.get(customer, "/account/" + accountId).statusCode();
+      }
+      case LIST_USERS -> {
+        return client.get(customer, "/user/list").statusCode();
+      }
+      case HOLD -> {
+        return placeHotHold(customers.get(0), amount);
+      }
+      case CAPTURE -> {
+        long[] hold = openHolds.poll();
+        if (hold == null) {
+          return placeHotHold(customers.get(0), amount);
+        }
+        int status = client.post(customers.get(0), "/account/capture/" + hold[0], "").statusCode();
+        if (EndpointStats.isSuccess(status)) {
+          expectedDelta.get(AccountCurrency.USD).add(-hold[1]);
+        }
+        return status;
+      }
+      default -> throw new IllegalStateException("Unhandled operation " + operation);
+    }
+  }
+
+  private int placeHotHold(Customer hotCustomer, long amount)
+      throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        client.post(
+            hotCustomer,
+            "/account/hold/" + hotCustomer.accountIds.get(AccountCurrency.USD),
+            "{\"amount\":" + amount + "}");
+    if (EndpointStats.isSuccess(response.statusCode())) {
+      openHolds.add(new long[] {client.json(response).get("id").asLong(), amount});
+    }
+    return response.statusCode();
+  }
+
+  private String nextUsername() {
+    return "load-" + runId + "-" + usernameSequence.incrementAndGet();
+  }
+
+  private Map<AccountCurrency, Long> totals() {
+    Map<AccountCurrency, Long> totals = new EnumMap<>(AccountCurrency.class);
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      totals.put(currency, 0L);
+    }
+    for (Account account : accountRepository.findAll()) {
+      totals.merge(account.getAccountCurrency(), account.getAmount(), Long::sum);
+    }
+    return totals;
+  }
+
+  private void report(Duration duration) {
+    double seconds = duration.toMillis() / 1000.0;
+    EndpointStats.printHeader();
+    stats.forEach((operation, endpoint) -> endpoint.print(operation, seconds));
+  }
+}
@@ -0,0 +1,56 @@
+package com.skypro.simplebanking.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/** Outcome counts and a latency histogram for one kind of request. */
+final class EndpointStats {
+  final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+  final LongAdder ok = new LongAdder();
+  final LongAdder rejected = new LongAdder();
+  final LongAdder errors = new LongAdder();
+
+  void record(int status, long elapsedNanos) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+    latencyMicros.recordValue(Math.min(micros, latencyMicros.getHighestTrackableValue()));
+    if (isSuccess(status)) {
+      ok.increment();
+    } else if (status >= 400 && status < 500) {
+      rejected.increment();
+    } else {
+      errors.increment();
+    }
+  }
+
+  double throughput(double seconds) {
+    return latencyMicros.getTotalCount() / seconds;
+  }
+
+  static boolean isSuccess(int status) {
+    return status >= 200 && status < 300;
+  }
+
+  static void printHeader() {
+    System.out.printf(
+        "%-12s %9s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+        "endpoint", "ok", "rejected", "errors", "req/s", "p50 us", "p90 us", "p99 us", "p99.9 us",
+        "max us");
+  }
+
+  void print(Object label, double seconds) {
+    System.out.printf(
+        "%-12s %9d %9d %7d %9.1f %8d %8d %8d %8d %8d%n",
+        label,
+        ok.sum(),
+        rejected.sum(),
+        errors.sum(),
+        throughput(seconds),
+        latencyMicros.getValueAtPercentile(50),
+        latencyMicros.getValueAtPercentile(90),
+        latencyMicros.getValueAtPercentile(99),
+        latencyMicros.getValueAtPercentile(99.9),
+        latencyMicros.getMaxValue());
+  }
+}
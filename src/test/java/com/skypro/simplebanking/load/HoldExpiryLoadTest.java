@@ -0,0 +1,159 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.Hold;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.HoldRepository;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.AccountTotals;
+import com.skypro.simplebanking.service.HoldService;
+import com.skypro.simplebanking.service.UserService;
+import com.skypro.simplebanking.service.VelocityLimiter;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Restarts hold expiry over a large number of outstanding holds: writes {@code -Dload.holds}
+ * holds spread over {@code -Dload.hold-spread}, starts a fresh {@link HoldService} on them as a
+ * restarted instance would, and waits until every hold has expired. Fails when streaming the
+ * holds onto the wheel exceeds {@code -Dload.hold-startup-budget} or releasing them all exceeds
+ * {@code -Dload.hold-expiry-budget}, or when any reserved amount is left behind.
+ */
+@Tag("load")
+@SpringBootTest
+class HoldExpiryLoadTest {
+  private static final int ACCOUNTS = 100;
+  private static final int INSERT_BATCH = 1_000;
+
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private AccountTotals accountTotals;
+  @Autowired private VelocityLimiter velocityLimiter;
+  @Autowired private AccountRepository accountRepository;
+  @Autowired private HoldRepository holdRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  /** Own database, so that holds left open by other load tests are not waited for. */
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws SQLException {
+    String url =
+        LoadTestDatabase.createDatabase("holds_" + UUID.randomUUID().toString().replace("-", ""));
+    registry.add("spring.datasource.url", () -> url);
+    registry.add("spring.datasource.username", LoadTestDatabase::username);
+    registry.add("spring.datasource.password", LoadTestDatabase::password);
+  }
+
+  @Test
+  void outstandingHoldsExpireWithinBudgetAfterRestart() throws Exception {
+    int holds = Integer.getInteger("load.holds", 50_000);
+    Duration spread = Duration.parse(System.getProperty("load.hold-spread", "PT30S"));
+    Duration startupBudget =
+        Duration.parse(System.getProperty("load.hold-startup-budget", "PT10S"));
+    Duration expiryBudget = Duration.parse(System.getProperty("load.hold-expiry-budget", "PT3M"));
+    List<Long> accountIds = createFundedAccounts(holds);
+    Instant firstDeadline = Instant.now();
+    insertHolds(holds, accountIds, firstDeadline, spread);
+
+    HoldService restarted =
+        new HoldService(
+            accountRepository,
+            holdRepository,
+            accountTotals,
+            velocityLimiter,
+            transactionManager,
+            Duration.ofDays(7),
+            Duration.ofDays(30),
+            Duration.ofMillis(100));
+    try {
+      long started = System.nanoTime();
+      restarted.startExpiry();
+      long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+      long deadline = System.nanoTime() + expiryBudget.plus(spread).toNanos() * 2;
+      while (holdRepository.count() > 0) {
+        assertTrue(System.nanoTime() < deadline, "Holds still expiring after twice the budget");
+        Thread.sleep(100);
+      }
+      long drainMillis =
+          Duration.between(firstDeadline.plus(spread), Instant.now()).toMillis();
+
+      System.out.printf(
+          "%d holds: streamed onto the wheel in %d ms, last released %d ms after the last"
+              + " deadline%n",
+          holds, startupMillis, drainMillis);
+      for (long accountId : accountIds) {
+        assertEquals(
+            0L, accountRepository.findById(accountId).orElseThrow().getReservedAmount());
+      }
+      assertTrue(
+          startupMillis <= startupBudget.toMillis(),
+          "Streaming holds took " + startupMillis + " ms, budget " + startupBudget.toMillis());
+      assertTrue(
+          drainMillis <= expiryBudget.toMillis(),
+          "Expiry lagged " + drainMillis + " ms, budget " + expiryBudget.toMillis());
+    } finally {
+      restarted.stopExpiry();
+    }
+  }
+
+  private List<Long> createFundedAccounts(int holds) {
+    String runId = UUID.randomUUID().toString().substring(0, 8);
+    List<Long> accountIds = new ArrayList<>(ACCOUNTS);
+    for (int i = 0; i < ACCOUNTS; i++) {
+      UserDTO user = userService.createUser("holds-" + runId + "-" + i, "holds");
+      AccountDTO usd =
+          user.getAccounts().stream()
+              .filter(account -> account.getCurrency() == AccountCurrency.USD)
+              .findFirst()
+              .orElseThrow();
+      accountService.depositToAccount(user.getId(), usd.getId(), holds);
+      accountIds.add(usd.getId());
+    }
+    return accountIds;
+  }
+
+  /** Writes the holds directly, as if placed before a restart, reserving their amounts. */
+  private void insertHolds(int holds, List<Long> accountIds, Instant first, Duration spread) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    for (int from = 0; from < holds; from += INSERT_BATCH) {
+      int to = Math.min(from + INSERT_BATCH, holds);
+      int batchFrom = from;
+      transaction.executeWithoutResult(
+          status -> {
+            List<Account> accounts = accountRepository.findAllById(accountIds);
+            List<Hold> batch = new ArrayList<>(to - batchFrom);
+            for (int i = batchFrom; i < to; i++) {
+              Account account = accounts.get(i % accounts.size());
+              account.setReservedAmount(account.getReservedAmount() + 1);
+              Hold hold = new Hold();
+              hold.setAccount(account);
+              hold.setAmount(1L);
+              hold.setExpiresAt(
+                  first.plusMillis(ThreadLocalRandom.current().nextLong(spread.toMillis())));
+              batch.add(hold);
+            }
+            holdRepository.saveAll(batch);
+          });
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.skypro.simplebanking.load;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Throwaway PostgreSQL shared by every load test in the JVM, so that runs never touch the
+ * database configured in application.properties.
+ */
+final class LoadTestDatabase {
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:15-alpine");
+
+  static {
+    POSTGRES.start();
+  }
+
+  private LoadTestDatabase() {}
+
+  static void register(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+  }
+
+  /**
+   * Creates an empty database in the container for an application started outside the Spring
+   * test context, whose create-drop schema must not clash with the shared one.
+   */
+  static String createDatabase(String name) throws SQLException {
+    try (Connection connection =
+            DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE DATABASE " + name);
+    }
+    return "jdbc:postgresql://"
+        + POSTGRES.getHost()
+        + ":"
+        + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+        + "/"
+        + name;
+  }
+
+  static String username() {
+    return POSTGRES.getUsername();
+  }
+
+  static String password() {
+    return POSTGRES.getPassword();
+  }
+}
@@ -0,0 +1,42 @@
+package com.skypro.simplebanking.load;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal in-process timing loop for code too small to measure over HTTP: warms the operation
+ * up, then reports the median cost per call over several rounds. Results feed a volatile sink so
+ * that the JIT cannot drop the measured work.
+ */
+final class Microbenchmark {
+  private static final int WARM_UP_ROUNDS = 5;
+  private static final int ROUNDS = 10;
+
+  @SuppressWarnings("unused")
+  private static volatile long sink;
+
+  private Microbenchmark() {}
+
+  static double nanosPerOperation(int operationsPerRound, LongSupplier operation) {
+    for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+      run(operationsPerRound, operation);
+    }
+    double[] nanosPerOperation = new double[ROUNDS];
+    for (int round = 0; round < ROUNDS; round++) {
+      nanosPerOperation[round] = (double) run(operationsPerRound, operation) / operationsPerRound;
+    }
+    Arrays.sort(nanosPerOperation);
+    return nanosPerOperation[ROUNDS / 2];
+  }
+
+  private static long run(int operations, LongSupplier operation) {
+    long result = 0;
+    long started = System.nanoTime();
+    for (int i = 0; i < operations; i++) {
+      result += operation.getAsLong();
+    }
+    long elapsed = System.nanoTime() - started;
+    sink = result;
+    return elapsed;
+  }
+}
@@ -0,0 +1,167 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.SimpleBankingApplication;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.load.BankingClient.Customer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures what the request profiler costs: boots the application twice in this JVM, with
+ * {@code app.profiling.enabled} off and on, each on its own database, and drives the same mix of
+ * account reads, deposits and transfers against each in alternating rounds. Prints throughput and
+ * latency for both and the relative difference; the build fails when profiling lowers throughput
+ * by more than {@code -Dload.profiling-max-overhead}. Tune with {@code -Dload.threads}, {@code
+ * -Dload.users}, {@code -Dload.profiling-rounds} and {@code -Dload.profiling-duration}.
+ */
+@Tag("load")
+class ProfilingOverheadLoadTest {
+  private static final String ADMIN_TOKEN = UUID.randomUUID().toString();
+  private static final long SEED_BALANCE = 1_000_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void profilingOverheadStaysWithinBudget() throws Exception {
+    int threads = Integer.getInteger("load.threads", 16);
+    int users = Integer.getInteger("load.users", 50);
+    int rounds = Integer.getInteger("load.profiling-rounds", 3);
+    Duration duration = Duration.parse(System.getProperty("load.profiling-duration", "PT10S"));
+    double maxOverhead =
+        Double.parseDouble(System.getProperty("load.profiling-max-overhead", "0.15"));
+
+    try (ConfigurableApplicationContext withoutProfiling = start(false);
+        ConfigurableApplicationContext withProfiling = start(true)) {
+      Target off = new Target(withoutProfiling, users);
+      Target on = new Target(withProfiling, users);
+      Duration warmUp = duration.dividedBy(2);
+      drive(off, threads, warmUp, new EndpointStats());
+      drive(on, threads, warmUp, new EndpointStats());
+
+      EndpointStats offStats = new EndpointStats();
+      EndpointStats onStats = new EndpointStats();
+      for (int round = 0; round < rounds; round++) {
+        boolean offFirst = round % 2 == 0;
+        drive(offFirst ? off : on, threads, duration, offFirst ? offStats : onStats);
+        drive(offFirst ? on : off, threads, duration, offFirst ? onStats : offStats);
+      }
+
+      double seconds = duration.toMillis() * rounds / 1000.0;
+      EndpointStats.printHeader();
+      offStats.print("profiling off", seconds);
+      onStats.print("profiling on", seconds);
+      double overhead = 1 - onStats.throughput(seconds) / offStats.throughput(seconds);
+      System.out.printf(
+          "profiling on vs off: throughput %+.1f%%, p50 %+d us, p99 %+d us%n",
+          -overhead * 100,
+          onStats.latencyMicros.getValueAtPercentile(50)
+              - offStats.latencyMicros.getValueAtPercentile(50),
+          onStats.latencyMicros.getValueAtPercentile(99)
+              - offStats.latencyMicros.getValueAtPercentile(99));
+
+      assertEquals(0, offStats.errors.sum() + onStats.errors.sum(), "Requests failed");
+      assertTrue(
+          overhead <= maxOverhead,
+          String.format(
+              "Profiling lowered throughput by %.1f%%, budget is %.1f%%",
+              overhead * 100, maxOverhead * 100));
+    }
+  }
+
+  private static ConfigurableApplicationContext start(boolean profiling) throws Exception {
+    String database = "profiling_" + UUID.randomUUID().toString().replace("-", "");
+    return new SpringApplicationBuilder(SimpleBankingApplication.class)
+        .run(
+            "--server.port=0",
+            "--spring.datasource.url=" + LoadTestDatabase.createDatabase(database),
+            "--spring.datasource.username=" + LoadTestDatabase.username(),
+            "--spring.datasource.password=" + LoadTestDatabase.password(),
+            "--app.security.admin-token=" + ADMIN_TOKEN,
+            "--app.profiling.enabled=" + profiling);
+  }
+
+  /** Reads an account, deposits into it or transfers from it to another customer, 50/20/30. */
+  private static void drive(Target target, int threads, Duration duration, EndpointStats stats)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    for (int i = 0; i < threads; i++) {
+      workers.execute(
+          () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+              Customer customer = target.customers.get(random.nextInt(target.customers.size()));
+              long accountId = customer.accountIds.get(AccountCurrency.USD);
+              int operation = random.nextInt(10);
+              long started = System.nanoTime();
+              int status;
+              try {
+                if (operation < 5) {
+                  status = target.client.get(customer, "/account/" + accountId).statusCode();
+                } else if (operation < 7) {
+                  status =
+                      target.client
+                          .post(customer, "/account/deposit/" + accountId, "{\"amount\":1}")
+                          .statusCode();
+                } else {
+                  Customer recipient =
+                      target.customers.get(random.nextInt(target.customers.size()));
+                  status =
+                      target.client
+                          .post(
+                              customer,
+                              "/transfer",
+                              "{\"fromAccountId\":"
+                                  + accountId
+                                  + ",\"toUserId\":"
+                                  + recipient.id
+                                  + ",\"toAccountId\":"
+                                  + recipient.accountIds.get(AccountCurrency.USD)
+                                  + ",\"amount\":1}")
+                          .statusCode();
+                }
+              } catch (IOException | InterruptedException e) {
+                status = -1;
+              }
+              stats.record(status, System.nanoTime() - started);
+            }
+          });
+    }
+    workers.shutdown();
+    assertTrue(workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS));
+  }
+
+  private final class Target {
+    private final BankingClient client;
+    private final List<Customer> customers = new ArrayList<>();
+
+    private Target(ConfigurableApplicationContext context, int users) throws Exception {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      client = new BankingClient(port, ADMIN_TOKEN, objectMapper);
+      for (int i = 0; i < users; i++) {
+        Customer customer = client.createCustomer("profiling-" + i);
+        client.post(
+            customer,
+            "/account/deposit/" + customer.accountIds.get(AccountCurrency.USD),
+            "{\"amount\":" + SEED_BALANCE + "}");
+        customers.add(customer);
+      }
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.ScheduledTransfer;
+import com.skypro.simplebanking.load.BankingClient.Customer;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.ScheduledTransferRepository;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Reproduces the midnight burst: thousands of one-off scheduled transfers all due at the same
+ * second, several per source account, then measures how long the executor takes to drain them
+ * and checks that none failed and that the total balance is unchanged. Tune with
+ * {@code -Dload.burst-users}, {@code -Dload.burst-orders}, {@code -Dload.burst-lead} (time
+ * allowed for creating the orders) and {@code -Dload.burst-budget}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ScheduledTransferBurstLoadTest {
+  private static final long SEED_BALANCE = 10_000;
+
+  @LocalServerPort private int port;
+
+  @Value("${app.security.admin-token}")
+  private String adminToken;
+
+  @Autowired private AccountRepository accountRepository;
+  @Autowired private ScheduledTransferRepository scheduledTransferRepository;
+  @Autowired private ObjectMapper objectMapper;
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) {
+    LoadTestDatabase.register(registry);
+  }
+
+  @Test
+  void burstOfDueOrdersDrainsWithinBudget() throws Exception {
+    int threads = Integer.getInteger("load.threads", 16);
+    int users = Integer.getInteger("load.burst-users", 100);
+    int orders = Integer.getInteger("load.burst-orders", 5_000);
+    Duration lead = Duration.parse(System.getProperty("load.burst-lead", "PT60S"));
+    Duration budget = Duration.parse(System.getProperty("load.burst-budget", "PT30S"));
+    BankingClient client = new BankingClient(port, adminToken, objectMapper);
+    String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    List<Customer> customers = new ArrayList<>();
+    for (int i = 0; i < users; i++) {
+      Customer customer = client.createCustomer("burst-" + runId + "-" + i);
+      client.post(
+          customer,
+          "/account/deposit/" + customer.accountIds.get(AccountCurrency.USD),
+          "{\"amount\":" + SEED_BALANCE + "}");
+      customers.add(customer);
+    }
+    long usdBefore = usdTotal();
+
+    Instant dueAt = Instant.now().plus(lead).truncatedTo(ChronoUnit.SECONDS);
+    ExecutorService creators = Executors.newFixedThreadPool(threads);
+    List<Future<HttpResponse<String>>> created = new ArrayList<>();
+    for (int i = 0; i < orders; i++) {
+      Customer sender = customers.get(i % users);
+      Customer recipient = customers.get((i + 1) % users);
+      String body =
+          "{\"fromAccountId\":"
+              + sender.accountIds.get(AccountCurrency.USD)
+              + ",\"toUserId\":"
+              + recipient.id
+              + ",\"toAccountId\":"
+              + recipient.accountIds.get(AccountCurrency.USD)
+              + ",\"amount\":1,\"period\":\"ONCE\",\"firstExecutionAt\":\""
+              + dueAt
+              + "\"}";
+      created.add(creators.submit(() -> client.post(sender, "/transfer/scheduled", body)));
+    }
+    for (Future<HttpResponse<String>> response : created) {
+      assertEquals(200, response.get().statusCode(), response.get().body());
+    }
+    creators.shutdown();
+    assertTrue(
+        Instant.now().isBefore(dueAt),
+        "Creating " + orders + " orders took longer than " + lead + ", raise load.burst-lead");
+
+    Thread.sleep(Duration.between(Instant.now(), dueAt).toMillis());
+    long started = System.nanoTime();
+    long deadline = started + budget.toNanos() * 2;
+    while (!scheduledTransferRepository.findAllByNextExecutionAtBefore(dueAt.plusSeconds(1))
+        .isEmpty()) {
+      assertTrue(System.nanoTime() < deadline, "Burst still draining after twice the budget");
+      Thread.sleep(50);
+    }
+    long drainMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    System.out.printf(
+        "drained %d orders from %d accounts in %d ms (%.0f orders/s)%n",
+        orders, users, drainMillis, orders * 1000.0 / Math.max(drainMillis, 1));
+    List<String> failures =
+        scheduledTransferRepository.findAll().stream()
+            .map(ScheduledTransfer::getLastFailure)
+            .filter(failure -> failure != null)
+            .toList();
+    assertEquals(List.of(), failures, "Scheduled transfers failed");
+    assertEquals(usdBefore, usdTotal(), "Money conservation violated");
+    assertTrue(
+        drainMillis <= budget.toMillis(),
+        "Burst took " + drainMillis + " ms, budget is " + budget.toMillis() + " ms");
+  }
+
+  private long usdTotal() {
+    return accountRepository.findAll().stream()
+        .filter(account -> account.getAccountCurrency() == AccountCurrency.USD)
+        .mapToLong(Account::getAmount)
+        .sum();
+  }
+}
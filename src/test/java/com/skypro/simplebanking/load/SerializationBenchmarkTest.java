@@ -0,0 +1,152 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.BinaryFormat;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the cost and size of the JSON and fixed-layout binary encodings for the payloads the
+ * binary format exists for: account reads and transfer batches.
+ */
+@Tag("load")
+class SerializationBenchmarkTest {
+  private static final int BATCH_SIZE = 100;
+  private static final int ACCOUNTS = 1024;
+  private static final int OPERATIONS_PER_ROUND = 20_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void binaryEncodingIsSmallerAndFasterThanJson() throws IOException {
+    AccountDTO[] accounts = new AccountDTO[ACCOUNTS];
+    for (int i = 0; i < ACCOUNTS; i++) {
+      accounts[i] =
+          new AccountDTO(
+              123_456 + i,
+              987_654_321 + i,
+              987_000_000 + i,
+              AccountCurrency.values()[i % AccountCurrency.values().length]);
+    }
+    ObjectWriter accountWriter = objectMapper.writerFor(AccountDTO.class);
+    int[] nextAccount = {0};
+
+    List<TransferRequest> batch = new ArrayList<>();
+    ByteBuffer binaryBatch = ByteBuffer.allocate(BATCH_SIZE * BinaryFormat.TRANSFER_RECORD_BYTES);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      TransferRequest transferRequest = new TransferRequest();
+      transferRequest.setFromAccountId(1_000 + i);
+      transferRequest.setToUserId(2_000 + i);
+      transferRequest.setToAccountId(3_000 + i);
+      transferRequest.setAmount(10_000 + i);
+      batch.add(transferRequest);
+      binaryBatch
+          .putLong(transferRequest.getFromAccountId())
+          .putLong(transferRequest.getToUserId())
+          .putLong(transferRequest.getToAccountId())
+          .putLong(transferRequest.getAmount());
+    }
+    byte[] jsonBatch = objectMapper.writeValueAsBytes(batch);
+    byte[] binaryBatchBytes = binaryBatch.array();
+    ByteBuffer transferBuffer = ByteBuffer.allocate(binaryBatchBytes.length);
+    ObjectReader batchReader =
+        objectMapper.readerFor(new TypeReference<List<TransferRequest>>() {});
+
+    System.out.printf(
+        "%-24s %10s %10s %12s %12s %8s%n",
+        "payload", "json B", "binary B", "json ns/op", "binary ns/op", "speedup");
+    compare(
+        "account write",
+        accountWriter.writeValueAsBytes(accounts[0]).length,
+        BinaryFormat.ACCOUNT_RECORD_V2_BYTES,
+        () -> {
+          byte[] json = write(accountWriter, accounts[nextAccount[0]++ & (ACCOUNTS - 1)]);
+          return json.length + json[json.length - 2];
+        },
+        () -> {
+          byte[] binary =
+              BinaryFormat.encodeAccount(accounts[nextAccount[0]++ & (ACCOUNTS - 1)], 2);
+          return binary.length + binary[Long.BYTES - 1];
+        },
+        OPERATIONS_PER_ROUND);
+    compare(
+        "transfer batch read",
+        jsonBatch.length,
+        binaryBatchBytes.length,
+        () -> {
+          long sum = 0;
+          for (TransferRequest transferRequest : read(batchReader, jsonBatch)) {
+            sum += transferRequest.getAmount();
+          }
+          return sum;
+        },
+        () -> {
+          ByteBuffer records = readTransfers(binaryBatchBytes, transferBuffer);
+          long sum = 0;
+          while (records.hasRemaining()) {
+            records.getLong();
+            records.getLong();
+            records.getLong();
+            sum += records.getLong();
+          }
+          return sum;
+        },
+        OPERATIONS_PER_ROUND / BATCH_SIZE);
+  }
+
+  private static void compare(
+      String payload,
+      int jsonBytes,
+      int binaryBytes,
+      LongSupplier json,
+      LongSupplier binary,
+      int operationsPerRound) {
+    double jsonNanos = Microbenchmark.nanosPerOperation(operationsPerRound, json);
+    double binaryNanos = Microbenchmark.nanosPerOperation(operationsPerRound, binary);
+    System.out.printf(
+        "%-24s %10d %10d %12.0f %12.0f %7.1fx%n",
+        payload, jsonBytes, binaryBytes, jsonNanos, binaryNanos, jsonNanos / binaryNanos);
+    assertTrue(binaryBytes < jsonBytes, payload + " should be smaller in binary");
+    assertTrue(binaryNanos < jsonNanos, payload + " should be faster in binary");
+  }
+
+  private static byte[] write(ObjectWriter writer, Object value) {
+    try {
+      return writer.writeValueAsBytes(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static List<TransferRequest> read(ObjectReader reader, byte[] json) {
+    try {
+      return reader.readValue(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ByteBuffer readTransfers(byte[] body, ByteBuffer buffer) {
+    try {
+      return BinaryFormat.readTransferRecords(
+          new ByteArrayInputStream(body), body.length, buffer, false);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
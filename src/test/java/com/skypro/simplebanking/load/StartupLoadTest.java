@@ -0,0 +1,209 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.SimpleBankingApplication;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.load.BankingClient.Customer;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the time from launching a fresh JVM to the first committed transfer with the default
+ * configuration, with the fast-startup profile and with the fast-startup profile plus an AppCDS
+ * archive, each launch on its own database. The archive comes from a training run of the same
+ * jar classpath the measured launches use, as the appcds Maven profile does. Tune with
+ * {@code -Dload.startup-runs}; the build fails when the AppCDS median exceeds
+ * {@code -Dload.startup-budget}, so regressions show up in every load-test run.
+ */
+@Tag("load")
+class StartupLoadTest {
+  private static final String ADMIN_TOKEN = UUID.randomUUID().toString();
+  private static final Duration LAUNCH_TIMEOUT = Duration.ofMinutes(2);
+  private static final String FAST_STARTUP = "-Dspring.profiles.active=fast-startup";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void fastStartupReachesFirstCommittedTransferWithinBudget() throws Exception {
+    int runs = Integer.getInteger("load.startup-runs", 3);
+    Duration budget = Duration.parse(System.getProperty("load.startup-budget", "PT20S"));
+
+    String testClassPath =
+        System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+    String jarClassPath = jarClassPath(testClassPath);
+    Path archive = trainArchive(jarClassPath);
+
+    long defaultMillis = medianTimeToFirstTransfer(runs, testClassPath, List.of());
+    long fastStartupMillis = medianTimeToFirstTransfer(runs, testClassPath, List.of(FAST_STARTUP));
+    long appCdsMillis =
+        medianTimeToFirstTransfer(
+            runs, jarClassPath, List.of("-XX:SharedArchiveFile=" + archive, FAST_STARTUP));
+
+    System.out.printf(
+        "time to first committed transfer (median of %d): default %d ms, fast-startup %d ms,"
+            + " fast-startup with AppCDS %d ms%n",
+        runs, defaultMillis, fastStartupMillis, appCdsMillis);
+    assertTrue(
+        appCdsMillis <= budget.toMillis(),
+        "fast-startup with AppCDS took "
+            + appCdsMillis
+            + " ms, budget is "
+            + budget.toMillis()
+            + " ms");
+  }
+
+  /**
+   * JDK 17 does not archive classes loaded from directories, so the application classes are
+   * packaged into a jar placed in front of the dependency jars, as the appcds Maven profile does.
+   */
+  private static String jarClassPath(String testClassPath) throws IOException {
+    Path classes =
+        Path.of(
+            SimpleBankingApplication.class.getProtectionDomain().getCodeSource().getLocation()
+                .getPath());
+    Path jar = Files.createTempFile("simple-banking", ".jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+        Stream<Path> files = Files.walk(classes)) {
+      for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+        out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+        Files.copy(file, out);
+        out.closeEntry();
+      }
+    }
+    List<String> entries = new ArrayList<>();
+    entries.add(jar.toString());
+    for (String entry : testClassPath.split(File.pathSeparator)) {
+      if (entry.endsWith(".jar")) {
+        entries.add(entry);
+      }
+    }
+    return String.join(File.pathSeparator, entries);
+  }
+
+  private Path trainArchive(String jarClassPath) throws Exception {
+    Path archive = Files.createTempFile("simple-banking", ".jsa");
+    Files.delete(archive);
+    Launch training =
+        launch(
+            jarClassPath,
+            List.of(
+                "-XX:ArchiveClassesAtExit=" + archive,
+                FAST_STARTUP,
+                "-Dapp.startup.exit-after-warm-up=true"));
+    if (!training.process.waitFor(LAUNCH_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+      training.process.destroyForcibly();
+      fail("AppCDS training run did not exit within " + LAUNCH_TIMEOUT + ", see " + training.log);
+    }
+    assertTrue(Files.size(archive) > 0, "No AppCDS archive written, see " + training.log);
+    return archive;
+  }
+
+  private long medianTimeToFirstTransfer(int runs, String classPath, List<String> jvmArguments)
+      throws Exception {
+    long[] millis = new long[runs];
+    for (int i = 0; i < runs; i++) {
+      millis[i] = timeToFirstTransfer(classPath, jvmArguments);
+    }
+    Arrays.sort(millis);
+    return millis[runs / 2];
+  }
+
+  private long timeToFirstTransfer(String classPath, List<String> jvmArguments) throws Exception {
+    Launch launch = launch(classPath, jvmArguments);
+    Process process = launch.process;
+    long started = launch.startedNanos;
+    try {
+      BankingClient client = new BankingClient(launch.port, ADMIN_TOKEN, objectMapper);
+      Customer sender = awaitFirstCustomer(client, process, started, launch.log);
+      Customer recipient = client.createCustomer("recipient");
+      long from = sender.accountIds.get(AccountCurrency.USD);
+      assertEquals(
+          200, client.post(sender, "/account/deposit/" + from, "{\"amount\":100}").statusCode());
+      HttpResponse<String> transfer =
+          client.post(
+              sender,
+              "/transfer",
+              "{\"fromAccountId\":"
+                  + from
+                  + ",\"toUserId\":"
+                  + recipient.id
+                  + ",\"toAccountId\":"
+                  + recipient.accountIds.get(AccountCurrency.USD)
+                  + ",\"amount\":1}");
+      assertEquals(200, transfer.statusCode(), transfer.body());
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static Launch launch(String classPath, List<String> jvmArguments) throws Exception {
+    String database = "startup_" + UUID.randomUUID().toString().replace("-", "");
+    String url = LoadTestDatabase.createDatabase(database);
+    int port = freePort();
+    Path log = Files.createTempFile(database, ".log");
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.add("-cp");
+    command.add(classPath);
+    command.addAll(jvmArguments);
+    command.add("-Dserver.port=" + port);
+    command.add("-Dspring.datasource.url=" + url);
+    command.add("-Dspring.datasource.username=" + LoadTestDatabase.username());
+    command.add("-Dspring.datasource.password=" + LoadTestDatabase.password());
+    command.add("-Dapp.security.admin-token=" + ADMIN_TOKEN);
+    command.add(SimpleBankingApplication.class.getName());
+    long started = System.nanoTime();
+    Process process =
+        new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+    return new Launch(process, port, log, started);
+  }
+
+  private static Customer awaitFirstCustomer(
+      BankingClient client, Process process, long started, Path log)
+      throws InterruptedException {
+    while (true) {
+      try {
+        return client.createCustomer("sender");
+      } catch (IOException e) {
+        if (!process.isAlive()) {
+          fail("Application exited during startup, see " + log);
+        }
+        if (System.nanoTime() - started > LAUNCH_TIMEOUT.toNanos()) {
+          fail("Application did not accept requests within " + LAUNCH_TIMEOUT + ", see " + log);
+        }
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private record Launch(Process process, int port, Path log, long startedNanos) {}
+}
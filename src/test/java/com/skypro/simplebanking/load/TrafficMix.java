@@ -0,0 +1,66 @@
+package com.skypro.simplebanking.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Weighted choice of operations, parsed from e.g. {@code create=1,deposit=20,transfer=40}. */
+class TrafficMix {
+  enum Operation {
+    CREATE_USER,
+    DEPOSIT,
+    WITHDRAW,
+    TRANSFER,
+    GET_ACCOUNT,
+    LIST_USERS,
+    HOLD,
+    CAPTURE
+  }
+
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+
+  private TrafficMix(Map<Operation, Integer> weights) {
+    operations = weights.keySet().toArray(new Operation[0]);
+    cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += weights.get(operations[i]);
+      cumulativeWeights[i] = total;
+    }
+    if (total <= 0) {
+      throw new IllegalArgumentException("Traffic mix needs at least one positive weight");
+    }
+  }
+
+  static TrafficMix parse(String spec) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : spec.split(",")) {
+      String[] parts = entry.trim().split("=");
+      Operation operation =
+          switch (parts[0].trim()) {
+            case "create" -> Operation.CREATE_USER;
+            case "deposit" -> Operation.DEPOSIT;
+            case "withdraw" -> Operation.WITHDRAW;
+            case "transfer" -> Operation.TRANSFER;
+            case "account" -> Operation.GET_ACCOUNT;
+            case "list" -> Operation.LIST_USERS;
+            case "hold" -> Operation.HOLD;
+            case "capture" -> Operation.CAPTURE;
+            default -> throw new IllegalArgumentException("Unknown operation " + parts[0]);
+          };
+      weights.put(operation, Integer.parseInt(parts[1].trim()));
+    }
+    return new TrafficMix(weights);
+  }
+
+  Operation next() {
+    int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (roll < cumulativeWeights[i]) {
+        return operations[i];
+      }
+    }
+    return operations[operations.length - 1];
+  }
+}
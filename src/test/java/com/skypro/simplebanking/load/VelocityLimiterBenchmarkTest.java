@@ -0,0 +1,63 @@
+package com.skypro.simplebanking.load;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.service.VelocityLimiter;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the in-memory velocity check that runs in front of every outgoing payment: adding
+ * usage to three sliding windows, checking the limits and releasing it again, as a failed payment
+ * does. The budget is {@code -Dload.velocity-budget-nanos}.
+ */
+@Tag("load")
+class VelocityLimiterBenchmarkTest {
+  private static final int PAYERS = 1024;
+  private static final int OPERATIONS_PER_ROUND = 200_000;
+
+  @Test
+  void velocityCheckStaysBelowBudget() {
+    long budgetNanos = Long.getLong("load.velocity-budget-nanos", 1_000);
+    AccountRepository accountRepository =
+        (AccountRepository)
+            Proxy.newProxyInstance(
+                AccountRepository.class.getClassLoader(),
+                new Class<?>[] {AccountRepository.class},
+                (proxy, method, args) -> {
+                  if (method.getName().equals("findCurrencyById")) {
+                    return Optional.of(AccountCurrency.USD);
+                  }
+                  throw new UnsupportedOperationException(method.getName());
+                });
+    VelocityLimiter velocityLimiter =
+        new VelocityLimiter(
+            accountRepository,
+            null,
+            null,
+            Long.MAX_VALUE / 4,
+            Long.MAX_VALUE / 4,
+            Long.MAX_VALUE / 4,
+            PAYERS * 2,
+            false,
+            Duration.ofHours(1));
+    long[] nextPayer = {0};
+
+    double nanos =
+        Microbenchmark.nanosPerOperation(
+            OPERATIONS_PER_ROUND,
+            () -> {
+              long payer = nextPayer[0]++ & (PAYERS - 1);
+              velocityLimiter.acquire(payer, payer, 1 + (payer & 7)).release();
+              return payer;
+            });
+
+    System.out.printf("velocity check (acquire + release): %.0f ns/op%n", nanos);
+    assertTrue(nanos < budgetNanos, "Velocity check took " + nanos + " ns, budget " + budgetNanos);
+  }
+}
@@ -0,0 +1,46 @@
+package com.skypro.simplebanking.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws indexes in {@code [0, items)} where index 0 is the hottest, following the Gray et al.
+ * construction used by YCSB. {@code theta} close to 1 concentrates traffic on a few items.
+ */
+class ZipfianGenerator {
+  private final int items;
+  private final double theta;
+  private final double zetaN;
+  private final double alpha;
+  private final double eta;
+
+  ZipfianGenerator(int items, double theta) {
+    if (items < 1 || theta <= 0 || theta >= 1) {
+      throw new IllegalArgumentException("items >= 1 and 0 < theta < 1 are required");
+    }
+    this.items = items;
+    this.theta = theta;
+    this.zetaN = zeta(items, theta);
+    this.alpha = 1 / (1 - theta);
+    this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+  }
+
+  int next() {
+    double u = ThreadLocalRandom.current().nextDouble();
+    double uz = u * zetaN;
+    if (uz < 1) {
+      return 0;
+    }
+    if (uz < 1 + Math.pow(0.5, theta)) {
+      return Math.min(1, items - 1);
+    }
+    return Math.min(items - 1, (int) (items * Math.pow(eta * u - eta + 1, alpha)));
+  }
+
+  private static double zeta(int n, double theta) {
+    double sum = 0;
+    for (int i = 1; i <= n; i++) {
+      sum += 1 / Math.pow(i, theta);
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,67 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+  private static final long START = 1_000_000L;
+  private static final long TICK = 100;
+
+  @Test
+  @Tag("load")
+  void expiresMillionsOfOutstandingHoldsNoEarlierThanTheirDeadline() {
+    int holds = 2_000_000;
+    long horizon = TimeUnit.HOURS.toMillis(2);
+    long[] deadlines = new long[holds];
+    BitSet expired = new BitSet(holds);
+    long[] now = {START};
+    HashedTimingWheel wheel =
+        new HashedTimingWheel(
+            TICK,
+            4096,
+            START,
+            id -> {
+              assertTrue(deadlines[(int) id] <= now[0], "expired before its deadline");
+              expired.set((int) id);
+            });
+    for (int id = 0; id < holds; id++) {
+      deadlines[id] = START + ThreadLocalRandom.current().nextLong(horizon);
+      wheel.schedule(id, deadlines[id]);
+    }
+
+    now[0] = START + horizon / 2;
+    wheel.advanceTo(now[0]);
+    for (int id = 0; id < holds; id++) {
+      assertEquals(deadlines[id] <= now[0], expired.get(id));
+    }
+    assertEquals(holds - expired.cardinality(), wheel.size());
+
+    for (now[0] += TICK; now[0] <= START + horizon + TICK; now[0] += TICK) {
+      wheel.advanceTo(now[0]);
+    }
+    assertEquals(holds, expired.cardinality());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void firesOverdueEntriesOnTheNextTick() {
+    BitSet expired = new BitSet();
+    HashedTimingWheel wheel = new HashedTimingWheel(TICK, 8, START, id -> expired.set((int) id));
+    wheel.advanceTo(START + 50 * TICK);
+    wheel.schedule(1, START);
+    wheel.schedule(2, START + 52 * TICK);
+    wheel.advanceTo(START + 51 * TICK);
+
+    assertTrue(expired.get(1));
+    assertFalse(expired.get(2));
+    wheel.advanceTo(START + 52 * TICK);
+    assertTrue(expired.get(2));
+  }
+}
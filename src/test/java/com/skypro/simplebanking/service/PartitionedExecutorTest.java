@@ -0,0 +1,137 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PartitionedExecutorTest {
+  private PartitionedExecutor executor;
+
+  @AfterEach
+  void stopExecutor() {
+    executor.shutdown();
+  }
+
+  @Test
+  void batchesOfOneKeyRunSequentiallyAndInOrder() throws Exception {
+    executor = new PartitionedExecutor("test", 4, 2);
+    int keys = 10;
+    int itemsPerKey = 500;
+    List<long[]> items = new ArrayList<>();
+    for (int sequence = 0; sequence < itemsPerKey; sequence++) {
+      for (int key = 0; key < keys; key++) {
+        items.add(new long[] {key, sequence});
+      }
+    }
+    ConcurrentMap<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+    ConcurrentMap<Long, List<Long>> seen = new ConcurrentHashMap<>();
+    AtomicInteger overlaps = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(items.size());
+
+    executor.executeInBatches(
+        items,
+        item -> item[0],
+        7,
+        batch -> {
+          for (long[] item : batch) {
+            AtomicInteger active = running.computeIfAbsent(item[0], k -> new AtomicInteger());
+            if (active.incrementAndGet() > 1) {
+              overlaps.incrementAndGet();
+            }
+            seen.computeIfAbsent(item[0], k -> new CopyOnWriteArrayList<>()).add(item[1]);
+            Thread.yield();
+            active.decrementAndGet();
+            done.countDown();
+          }
+        });
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(0, overlaps.get());
+    for (long key = 0; key < keys; key++) {
+      List<Long> sequences = seen.get(key);
+      assertEquals(itemsPerKey, sequences.size());
+      for (int i = 0; i < itemsPerKey; i++) {
+        assertEquals(i, sequences.get(i).longValue());
+      }
+    }
+  }
+
+  @Test
+  void fullLaneBlocksTheSubmitter() throws Exception {
+    executor = new PartitionedExecutor("test", 1, 1);
+    CountDownLatch firstBatchRunning = new CountDownLatch(1);
+    CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+    List<String> submitterThreads = new CopyOnWriteArrayList<>();
+    CountDownLatch submitted = new CountDownLatch(1);
+
+    Thread submitter =
+        new Thread(
+            () -> {
+              try {
+                executor.executeInBatches(
+                    List.of(1L, 2L, 3L),
+                    item -> 0,
+                    1,
+                    batch -> {
+                      submitterThreads.add(Thread.currentThread().getName());
+                      if (batch.get(0) == 1L) {
+                        firstBatchRunning.countDown();
+                        await(releaseFirstBatch);
+                      }
+                    });
+                submitted.countDown();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            },
+            "submitter");
+    submitter.start();
+
+    assertTrue(firstBatchRunning.await(5, TimeUnit.SECONDS));
+    assertFalse(submitted.await(200, TimeUnit.MILLISECONDS));
+    releaseFirstBatch.countDown();
+    assertTrue(submitted.await(5, TimeUnit.SECONDS));
+    submitter.join(5_000);
+    assertFalse(submitterThreads.contains("submitter"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Timed out waiting for latch");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void lanesDoNotKeepTheJvmAlive() throws Exception {
+    executor = new PartitionedExecutor("daemon-test", 2, 1);
+    List<Boolean> daemon = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(2);
+    executor.executeInBatches(
+        List.of(0L, 1L),
+        Long::longValue,
+        1,
+        batch -> {
+          daemon.add(Thread.currentThread().isDaemon());
+          done.countDown();
+        });
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(List.of(true, true), daemon);
+  }
+}
@@ -0,0 +1,153 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+  private final ExecutorService callers = Executors.newCachedThreadPool();
+  private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test");
+
+  @AfterEach
+  void stopCallers() {
+    callers.shutdownNow();
+  }
+
+  @Test
+  void callersArrivingDuringALoadShareTheNextOne() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch firstLoadRunning = new CountDownLatch(1);
+    CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+    Future<Integer> first =
+        callers.submit(
+            () ->
+                singleFlight.execute(
+                    "key",
+                    () -> {
+                      firstLoadRunning.countDown();
+                      await(releaseFirstLoad);
+                      return loads.incrementAndGet();
+                    }));
+    await(firstLoadRunning);
+
+    int followers = 10;
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < followers; i++) {
+      results.add(callers.submit(() -> singleFlight.execute("key", loads::incrementAndGet)));
+    }
+    while (singleFlight.stats().getCoalesced() < followers - 1) {
+      Thread.onSpinWait();
+    }
+    releaseFirstLoad.countDown();
+
+    assertEquals(1, first.get(5, TimeUnit.SECONDS));
+    for (Future<Integer> result : results) {
+      assertEquals(2, result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(2, loads.get());
+    assertEquals(followers + 1, singleFlight.stats().getRequests());
+  }
+
+  @Test
+  void callerNeverReceivesALoadThatStartedBeforeItArrived() throws Exception {
+    AtomicInteger committedVersion = new AtomicInteger();
+    CountDownLatch firstLoadRunning = new CountDownLatch(1);
+    CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+    Future<Integer> first =
+        callers.submit(
+            () ->
+                singleFlight.execute(
+                    "key",
+                    () -> {
+                      int snapshot = committedVersion.get();
+                      firstLoadRunning.countDown();
+                      await(releaseFirstLoad);
+                      return snapshot;
+                    }));
+    await(firstLoadRunning);
+
+    committedVersion.incrementAndGet();
+    Thread writer =
+        new Thread(
+            () -> assertEquals(1, singleFlight.execute("key", committedVersion::get).intValue()));
+    AtomicInteger writerFailures = new AtomicInteger();
+    writer.setUncaughtExceptionHandler((thread, e) -> writerFailures.incrementAndGet());
+    writer.start();
+    while (writer.getState() != Thread.State.WAITING && writer.isAlive()) {
+      Thread.onSpinWait();
+    }
+    releaseFirstLoad.countDown();
+    writer.join(5_000);
+
+    assertEquals(0, first.get(5, TimeUnit.SECONDS));
+    assertEquals(0, writerFailures.get());
+  }
+
+  @Test
+  void failureReachesEveryMemberAndReleasesTheKey() throws Exception {
+    CountDownLatch loadRunning = new CountDownLatch(1);
+    CountDownLatch releaseLoad = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("boom");
+
+    Future<Integer> leader =
+        callers.submit(
+            () ->
+                singleFlight.execute(
+                    "key",
+                    () -> {
+                      loadRunning.countDown();
+                      await(releaseLoad);
+                      throw failure;
+                    }));
+    await(loadRunning);
+    List<Future<Integer>> followers = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      followers.add(
+          callers.submit(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        throw failure;
+                      })));
+    }
+    while (singleFlight.stats().getCoalesced() < 1) {
+      Thread.onSpinWait();
+    }
+    releaseLoad.countDown();
+
+    assertSame(failure, cause(leader));
+    for (Future<Integer> follower : followers) {
+      assertSame(failure, cause(follower));
+    }
+    assertEquals(7, singleFlight.execute("key", () -> 7));
+  }
+
+  private static Throwable cause(Future<?> future) {
+    return assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS))
+        .getCause();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Timed out waiting for latch");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
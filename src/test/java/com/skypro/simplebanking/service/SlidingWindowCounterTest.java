@@ -0,0 +1,83 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+  private static final long BUCKET_MILLIS = 1_000;
+  private static final int BUCKETS = 4;
+  private static final long MAX_AMOUNT = (1L << 40) - 1;
+  /** Far enough from the epoch that bucket numbers overflow the packed epoch tag. */
+  private static final long NOW = 1_700_000_000_000L;
+
+  private final SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKETS);
+
+  @Test
+  void sumsEveryBucketInsideTheWindow() {
+    counter.add(NOW - 3 * BUCKET_MILLIS, 1, NOW);
+    counter.add(NOW - BUCKET_MILLIS, 20, NOW);
+    counter.add(NOW, 300, NOW);
+    counter.add(NOW, 4_000, NOW);
+
+    assertEquals(4_321, counter.sum(NOW));
+  }
+
+  @Test
+  void bucketsRollOffAsTheWindowMoves() {
+    counter.add(NOW, 5, NOW);
+    counter.add(NOW + BUCKET_MILLIS, 7, NOW + BUCKET_MILLIS);
+
+    assertEquals(12, counter.sum(NOW + 3 * BUCKET_MILLIS));
+    assertEquals(7, counter.sum(NOW + 4 * BUCKET_MILLIS));
+    assertEquals(0, counter.sum(NOW + 5 * BUCKET_MILLIS));
+  }
+
+  @Test
+  void reusedSlotStartsFromZero() {
+    counter.add(NOW, 5, NOW);
+    long later = NOW + BUCKETS * BUCKET_MILLIS;
+    counter.add(later, 3, later);
+
+    assertEquals(3, counter.sum(later));
+  }
+
+  @Test
+  void updatesStampedBeforeTheWindowAreDropped() {
+    counter.add(NOW, 5, NOW);
+    long later = NOW + BUCKETS * BUCKET_MILLIS;
+    counter.add(NOW, 100, later);
+
+    assertEquals(0, counter.sum(later));
+    assertEquals(5, counter.sum(NOW));
+  }
+
+  @Test
+  void releaseSubtractsFromTheBucketItWasAddedTo() {
+    counter.add(NOW, 50, NOW);
+    counter.add(NOW + BUCKET_MILLIS, 10, NOW + BUCKET_MILLIS);
+    counter.add(NOW, -50, NOW + 2 * BUCKET_MILLIS);
+
+    assertEquals(10, counter.sum(NOW + 2 * BUCKET_MILLIS));
+  }
+
+  @Test
+  void releaseAfterTheBucketExpiredIsIgnored() {
+    counter.add(NOW, 50, NOW);
+    long later = NOW + BUCKETS * BUCKET_MILLIS;
+    counter.add(later, 10, later);
+    counter.add(NOW, -50, later);
+
+    assertEquals(10, counter.sum(later));
+  }
+
+  @Test
+  void amountIsClampedToItsPackedRange() {
+    counter.add(NOW, MAX_AMOUNT - 1, NOW);
+    counter.add(NOW, 10, NOW);
+    assertEquals(MAX_AMOUNT, counter.sum(NOW));
+
+    counter.add(NOW, -MAX_AMOUNT - 10, NOW);
+    assertEquals(0, counter.sum(NOW));
+  }
+}
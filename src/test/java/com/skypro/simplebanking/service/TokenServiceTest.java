@@ -0,0 +1,84 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.TokenDTO;
+import com.skypro.simplebanking.exception.InvalidCredentialsException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class TokenServiceTest {
+  private static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder(4);
+  private static final String PASSWORD_HASH = PASSWORD_ENCODER.encode("secret");
+
+  @Test
+  void resolvesIssuedTokenToTheUserWithoutItsPassword() {
+    TokenService tokenService = tokenService(Duration.ofHours(1));
+    TokenDTO token = tokenService.login("alice", "secret");
+
+    BankingUserDetails userDetails = tokenService.resolve(token.getToken()).orElseThrow();
+    assertEquals(1L, userDetails.getId());
+    assertEquals("alice", userDetails.getUsername());
+    assertNotEquals(PASSWORD_HASH, userDetails.getPassword());
+    assertEquals(3600, token.getExpiresIn());
+  }
+
+  @Test
+  void rejectsWrongPasswordAndUnknownUser() {
+    TokenService tokenService = tokenService(Duration.ofHours(1));
+
+    assertThrows(InvalidCredentialsException.class, () -> tokenService.login("alice", "wrong"));
+    assertThrows(InvalidCredentialsException.class, () -> tokenService.login("alice", null));
+    assertThrows(InvalidCredentialsException.class, () -> tokenService.login("bob", "secret"));
+  }
+
+  @Test
+  void revokedTokenNoLongerResolves() {
+    TokenService tokenService = tokenService(Duration.ofHours(1));
+    String first = tokenService.login("alice", "secret").getToken();
+    String second = tokenService.login("alice", "secret").getToken();
+
+    tokenService.revoke(first);
+
+    assertTrue(tokenService.resolve(first).isEmpty());
+    assertTrue(tokenService.resolve(second).isPresent());
+  }
+
+  @Test
+  void tokenExpiresAfterItsTtl() throws InterruptedException {
+    TokenService tokenService = tokenService(Duration.ofMillis(50));
+    String token = tokenService.login("alice", "secret").getToken();
+    assertTrue(tokenService.resolve(token).isPresent());
+
+    Thread.sleep(100);
+
+    assertTrue(tokenService.resolve(token).isEmpty());
+  }
+
+  @Test
+  void unknownTokenDoesNotResolve() {
+    assertTrue(tokenService(Duration.ofHours(1)).resolve("forged").isEmpty());
+  }
+
+  private static TokenService tokenService(Duration ttl) {
+    UserService userService =
+        new UserService(null, null, PASSWORD_ENCODER, null) {
+          @Override
+          public UserDetails loadUserByUsername(String username) {
+            if (!username.equals("alice")) {
+              throw new UsernameNotFoundException("User not found");
+            }
+            return new BankingUserDetails(1, "alice", PASSWORD_HASH, false);
+          }
+        };
+    return new TokenService(userService, PASSWORD_ENCODER, ttl);
+  }
+}
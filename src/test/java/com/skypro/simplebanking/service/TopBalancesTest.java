@@ -0,0 +1,152 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.dto.AccountBalanceDTO;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopBalancesTest {
+  private final TopBalances topBalances = new TopBalances(2);
+
+  @Test
+  void reportsTheLargestBalancesInDescendingOrder() {
+    topBalances.update(1, 10);
+    topBalances.update(2, 30);
+    topBalances.update(3, 20);
+    topBalances.update(1, 40);
+
+    assertEquals(List.of(1L, 2L), accountIds());
+    assertEquals(List.of(40L, 30L), balances());
+    assertTrue(topBalances.isExact());
+  }
+
+  @Test
+  void balanceTurnedAwayRaisesTheOutsiderCeiling() {
+    fill();
+    topBalances.update(5, 15);
+
+    assertTrue(topBalances.isExact());
+    topBalances.update(1, 1);
+    topBalances.update(2, 1);
+    assertTrue(topBalances.isExact());
+    topBalances.update(3, 1);
+
+    assertFalse(topBalances.isExact());
+  }
+
+  @Test
+  void evictedBalanceRaisesTheOutsiderCeiling() {
+    fill();
+    topBalances.update(5, 45);
+
+    assertEquals(List.of(5L, 1L), accountIds());
+    assertTrue(topBalances.isExact());
+    topBalances.update(5, 1);
+    topBalances.update(1, 1);
+    topBalances.update(2, 1);
+
+    assertFalse(topBalances.isExact());
+  }
+
+  @Test
+  void refillMakesTheRankingExactAgain() {
+    fill();
+    topBalances.update(5, 15);
+    topBalances.update(1, 1);
+    topBalances.update(2, 1);
+    topBalances.update(3, 1);
+    assertFalse(topBalances.isExact());
+
+    topBalances.startRefill();
+    topBalances.finishRefill(new long[] {4, 5, 1, 2}, new long[] {20, 15, 1, 1});
+
+    assertTrue(topBalances.isExact());
+    assertEquals(List.of(4L, 5L), accountIds());
+  }
+
+  @Test
+  void updatesDuringARefillSurviveAnOlderRead() {
+    fill();
+    topBalances.startRefill();
+    topBalances.update(4, 100);
+    topBalances.update(1, 0);
+    topBalances.finishRefill(new long[] {1, 2, 3, 4}, new long[] {40, 30, 30, 20});
+
+    assertEquals(List.of(4L, 2L), accountIds());
+    assertEquals(List.of(100L, 30L), balances());
+    assertTrue(topBalances.isExact());
+  }
+
+  @Test
+  void removalDuringARefillSurvivesAnOlderRead() {
+    fill();
+    topBalances.startRefill();
+    topBalances.remove(1);
+    topBalances.finishRefill(new long[] {1, 2, 3, 4}, new long[] {40, 30, 30, 20});
+
+    assertEquals(List.of(2L, 3L), accountIds());
+    assertTrue(topBalances.isExact());
+  }
+
+  @Test
+  void uncommittedBalanceSurvivesARefillThatReadBeforeTheCommit() {
+    fill();
+    topBalances.prepare(4, 100L);
+    topBalances.startRefill();
+    topBalances.finishRefill(new long[] {1, 2, 3, 4}, new long[] {40, 30, 30, 20});
+    topBalances.complete(4, 100L, true);
+
+    assertEquals(List.of(4L, 1L), accountIds());
+    assertTrue(topBalances.isExact());
+  }
+
+  @Test
+  void failedTransactionLeavesTheRankingInexact() {
+    fill();
+    topBalances.prepare(4, 100L);
+    topBalances.complete(4, 100L, false);
+
+    assertFalse(topBalances.isExact());
+    topBalances.startRefill();
+    topBalances.finishRefill(new long[] {1, 2, 3, 4}, new long[] {40, 30, 30, 20});
+    assertTrue(topBalances.isExact());
+    assertEquals(List.of(1L, 2L), accountIds());
+  }
+
+  @Test
+  void failureDuringARefillKeepsTheRankingInexact() {
+    fill();
+    topBalances.startRefill();
+    topBalances.prepare(4, 100L);
+    topBalances.complete(4, 100L, false);
+    topBalances.finishRefill(new long[] {1, 2, 3, 4}, new long[] {40, 30, 30, 20});
+
+    assertFalse(topBalances.isExact());
+  }
+
+  @Test
+  void partialRankingWithoutOutsidersIsExact() {
+    topBalances.update(1, 10);
+
+    assertTrue(topBalances.isExact());
+  }
+
+  /** Fills all four tracked slots: account 1 has 40, 2 has 30, 3 has 30 and 4 has 20. */
+  private void fill() {
+    topBalances.update(1, 40);
+    topBalances.update(2, 30);
+    topBalances.update(3, 30);
+    topBalances.update(4, 20);
+  }
+
+  private List<Long> accountIds() {
+    return topBalances.top().stream().map(AccountBalanceDTO::getAccountId).toList();
+  }
+
+  private List<Long> balances() {
+    return topBalances.top().stream().map(AccountBalanceDTO::getAmount).toList();
+  }
+}
@@ -0,0 +1,68 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.VelocityLimitExceededException;
+import com.skypro.simplebanking.repository.AccountRepository;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class VelocityLimiterTest {
+  private static final int MAX_TRACKED_KEYS = 2;
+  private static final long LIMIT = 1_000;
+
+  @Test
+  void newPayerReplacesAnIdlePayerAtTheCap() {
+    VelocityLimiter velocityLimiter = velocityLimiter(true);
+    velocityLimiter.acquire(1, 1, 10).release();
+    velocityLimiter.acquire(2, 2, 10);
+
+    velocityLimiter.acquire(3, 3, 10);
+  }
+
+  @Test
+  void newPayerReplacesAnActivePayerByDefault() {
+    VelocityLimiter velocityLimiter = velocityLimiter(false);
+    velocityLimiter.acquire(1, 1, 10);
+    velocityLimiter.acquire(2, 2, 10);
+
+    velocityLimiter.acquire(3, 3, 10);
+  }
+
+  @Test
+  void failClosedRejectsNewPayersWhileAllTrackedPayersAreActive() {
+    VelocityLimiter velocityLimiter = velocityLimiter(true);
+    velocityLimiter.acquire(1, 1, 10);
+    velocityLimiter.acquire(2, 2, 10);
+
+    assertThrows(VelocityLimitExceededException.class, () -> velocityLimiter.acquire(3, 3, 10));
+    velocityLimiter.acquire(1, 1, 10);
+  }
+
+  private VelocityLimiter velocityLimiter(boolean failClosed) {
+    AccountRepository accountRepository =
+        (AccountRepository)
+            Proxy.newProxyInstance(
+                AccountRepository.class.getClassLoader(),
+                new Class<?>[] {AccountRepository.class},
+                (proxy, method, args) -> {
+                  if (method.getName().equals("findCurrencyById")) {
+                    return Optional.of(AccountCurrency.USD);
+                  }
+                  throw new UnsupportedOperationException(method.getName());
+                });
+    return new VelocityLimiter(
+        accountRepository,
+        null,
+        null,
+        LIMIT,
+        LIMIT,
+        LIMIT,
+        MAX_TRACKED_KEYS,
+        failClosed,
+        Duration.ofHours(1));
+  }
+}